@@ -13,12 +13,39 @@ java {
     targetCompatibility = JavaVersion.VERSION_17
     withJavadocJar()
     withSourcesJar()
+
+    // Optional Jackson Blackbird support, published as the "blackbird" feature variant
+    registerFeature("blackbird") {
+        usingSourceSet(sourceSets["main"])
+    }
+
+    // Optional Micrometer binding for SdkMetrics, published as the "micrometer" feature variant
+    registerFeature("micrometer") {
+        usingSourceSet(sourceSets["main"])
+    }
+
+    // Optional OpenTelemetry binding for SdkTracing, published as the "opentelemetry" feature variant
+    registerFeature("opentelemetry") {
+        usingSourceSet(sourceSets["main"])
+    }
 }
 
 repositories {
     mavenCentral()
 }
 
+// JMH benchmarks live in src/jmh/java, in the SDK's own packages so they can reach internals
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+// Load tests against an in-process fake API live in src/loadTest/java
+val loadTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
 dependencies {
     // HTTP Client
     api(platform("com.squareup.okhttp3:okhttp-bom:4.12.0"))
@@ -28,6 +55,14 @@ dependencies {
     // JSON Serialization
     api("com.fasterxml.jackson.core:jackson-databind:2.18.2")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.18.2")
+    "blackbirdImplementation"("com.fasterxml.jackson.module:jackson-module-blackbird:2.18.2")
+
+    // Metrics
+    "micrometerImplementation"("io.micrometer:micrometer-core:1.14.2")
+
+    // Tracing
+    "opentelemetryImplementation"(platform("io.opentelemetry:opentelemetry-bom:1.44.1"))
+    "opentelemetryImplementation"("io.opentelemetry:opentelemetry-api")
 
     // Annotations
     compileOnly("org.jetbrains:annotations:26.0.1")
@@ -38,7 +73,21 @@ dependencies {
     testImplementation("org.mockito:mockito-core:5.14.2")
     testImplementation("org.mockito:mockito-junit-jupiter:5.14.2")
     testImplementation("com.squareup.okhttp3:mockwebserver")
+    testImplementation("com.fasterxml.jackson.module:jackson-module-blackbird:2.18.2")
+    testImplementation("io.micrometer:micrometer-core:1.14.2")
+    testImplementation(platform("io.opentelemetry:opentelemetry-bom:1.44.1"))
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    "jmhImplementation"(platform("com.squareup.okhttp3:okhttp-bom:4.12.0"))
+    "jmhImplementation"("com.squareup.okhttp3:mockwebserver")
+
+    // Load tests
+    "loadTestImplementation"(platform("com.squareup.okhttp3:okhttp-bom:4.12.0"))
+    "loadTestImplementation"("com.squareup.okhttp3:mockwebserver")
 }
 
 tasks.test {
@@ -48,6 +97,34 @@ tasks.test {
     }
 }
 
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes JSON results to build/reports/jmh. " +
+        "Pass -Pjmh.includes=<regex> to select benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    // One file per SDK version, so results can be compared across releases
+    val results = layout.buildDirectory.file("reports/jmh/results-${project.version}.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    val includes = project.findProperty("jmh.includes") as String?
+    if (includes != null) {
+        args(includes)
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the client against a local fake API. Pass options with --args, see LoadTest."
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.allscreenshots.sdk.loadtest.LoadTest")
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
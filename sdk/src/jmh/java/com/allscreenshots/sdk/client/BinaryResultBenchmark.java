@@ -0,0 +1,82 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screenshot capture against a local MockWebServer at several image sizes, comparing the
+ * {@code byte[]} result with streaming into an {@link OutputStream}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryResultBenchmark {
+
+    @Param({"16384", "1048576", "8388608"})
+    public int imageSize;
+
+    private MockWebServer server;
+    private HttpClient httpClient;
+    private ScreenshotRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] image = new byte[imageSize];
+        new Random(42).nextBytes(image);
+        Buffer body = new Buffer().write(image);
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest recorded) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "image/png")
+                        .setBody(body.clone());
+            }
+        });
+        server.start();
+        httpClient = HttpClientBenchmark.newHttpClient(server);
+        request = ScreenshotRequest.builder()
+                .url("https://example.com")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public byte[] captureToBytes() {
+        return httpClient.postForBinary("/v1/screenshots", request);
+    }
+
+    @Benchmark
+    public long captureToStream() {
+        return httpClient.postForStream("/v1/screenshots", request, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,73 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.BulkStatusResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of parsing large bulk status responses with and without the Blackbird module
+ * enabled by {@code AllscreenshotsClient.Builder.fastJsonBinding}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkStatusBenchmark {
+
+    @Param({"false", "true"})
+    public boolean fastJsonBinding;
+
+    @Param({"100", "1000"})
+    public int jobs;
+
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (fastJsonBinding) {
+            objectMapper.registerModule(JacksonModules.newAccessorModule());
+        }
+        reader = new JsonCodec(objectMapper).reader(BulkStatusResponse.class);
+
+        StringBuilder json = new StringBuilder()
+                .append("{\"id\": \"bulk-1\", \"status\": \"PROCESSING\", \"totalJobs\": ").append(jobs)
+                .append(", \"completedJobs\": ").append(jobs).append(", \"failedJobs\": 0, \"progress\": 100, \"jobs\": [");
+        for (int i = 0; i < jobs; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\": \"job-").append(i).append("\", \"url\": \"https://example.com/").append(i)
+                    .append("\", \"status\": \"COMPLETED\", \"resultUrl\": \"https://storage.example.com/job-").append(i)
+                    .append(".png\", \"format\": \"png\", \"width\": 1920, \"height\": 1080, \"fileSize\": 245760")
+                    .append(", \"renderTimeMs\": 1830, \"createdAt\": \"2024-01-01T00:00:00Z\"")
+                    .append(", \"completedAt\": \"2024-01-01T00:00:02Z\"}");
+        }
+        payload = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public BulkStatusResponse parseBulkStatus() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,91 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.JobResponse;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip through {@link HttpClient}'s retry loop against a local MockWebServer: request
+ * building, the call, error checks and JSON parsing. {@link #getJobWithOkHttp()} makes the same
+ * call with a bare OkHttp client; the difference between the two is the SDK's overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpClientBenchmark {
+
+    private MockWebServer server;
+    private HttpClient httpClient;
+    private OkHttpClient okHttpClient;
+    private Request rawRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody("""
+                                {"id": "job-1", "status": "COMPLETED", "url": "https://example.com",
+                                 "resultUrl": "https://storage.example.com/job-1.png"}
+                                """);
+            }
+        });
+        server.start();
+        httpClient = newHttpClient(server);
+        okHttpClient = new OkHttpClient();
+        rawRequest = new Request.Builder()
+                .url(server.url("/v1/screenshots/jobs/job-1"))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public JobResponse getJob() {
+        return httpClient.get("/v1/screenshots/jobs/job-1", JobResponse.class);
+    }
+
+    @Benchmark
+    public String getJobWithOkHttp() throws IOException {
+        try (Response response = okHttpClient.newCall(rawRequest).execute()) {
+            return response.body().string();
+        }
+    }
+
+    static HttpClient newHttpClient(MockWebServer server) {
+        AllscreenshotsClient.Builder config = AllscreenshotsClient.builder()
+                .apiKey("benchmark-api-key")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.defaultConfig());
+        return new HttpClient(config, "benchmark-api-key");
+    }
+}
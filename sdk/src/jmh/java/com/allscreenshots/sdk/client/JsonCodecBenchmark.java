@@ -0,0 +1,104 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.ImageFormat;
+import com.allscreenshots.sdk.model.JobResponse;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of JSON mapping with a plain {@link ObjectMapper} versus the cached readers and
+ * writers of {@link JsonCodec}. Payloads are small so the lookup overhead is visible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private JsonCodec codec;
+    private byte[] job;
+    private byte[] jobList;
+    private ScreenshotRequest request;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        codec = new JsonCodec(objectMapper);
+
+        String single = """
+                {"id": "job-1", "status": "COMPLETED", "url": "https://example.com",
+                 "resultUrl": "https://storage.example.com/job-1.png", "createdAt": "2024-01-01T00:00:00Z"}
+                """;
+        job = single.getBytes(StandardCharsets.UTF_8);
+        jobList = ("[" + single + "," + single + "]").getBytes(StandardCharsets.UTF_8);
+        request = ScreenshotRequest.builder()
+                .url("https://example.com")
+                .device("Desktop HD")
+                .fullPage(true)
+                .build();
+    }
+
+    @Benchmark
+    public JobResponse readWithObjectMapper() throws IOException {
+        return objectMapper.readValue(job, JobResponse.class);
+    }
+
+    @Benchmark
+    public JobResponse readWithCachedReader() throws IOException {
+        return codec.reader(JobResponse.class).readValue(job);
+    }
+
+    @Benchmark
+    public List<JobResponse> readListWithObjectMapper() throws IOException {
+        return objectMapper.readValue(jobList,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, JobResponse.class));
+    }
+
+    @Benchmark
+    public List<JobResponse> readListWithCachedReader() throws IOException {
+        return codec.reader(codec.listOf(JobResponse.class)).readValue(jobList);
+    }
+
+    @Benchmark
+    public byte[] writeWithObjectMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeWithCachedWriter() throws IOException {
+        return codec.writer(ScreenshotRequest.class).writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public long buildAndWriteScreenshotRequest() throws IOException {
+        ScreenshotRequest built = ScreenshotRequest.builder()
+                .url("https://example.com")
+                .device("Desktop HD")
+                .fullPage(true)
+                .format(ImageFormat.PNG)
+                .build();
+        return RequestSerializationBenchmark.write(JsonRequestBody.streaming(codec.writer(ScreenshotRequest.class), built));
+    }
+}
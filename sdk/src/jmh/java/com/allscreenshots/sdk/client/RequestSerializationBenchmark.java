@@ -0,0 +1,81 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.BulkDefaults;
+import com.allscreenshots.sdk.model.BulkRequest;
+import com.allscreenshots.sdk.model.ImageFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing bulk requests of growing size through {@link JsonRequestBody} versus the
+ * previous String-then-bytes path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int urls;
+
+    private ObjectMapper objectMapper;
+    private JsonCodec codec;
+    private BulkRequest bulkRequest;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        codec = new JsonCodec(objectMapper);
+
+        BulkRequest.Builder builder = BulkRequest.builder()
+                .defaults(BulkDefaults.builder()
+                        .device("Desktop HD")
+                        .format(ImageFormat.PNG)
+                        .build())
+                .webhookUrl("https://hooks.example.com/bulk");
+        for (int i = 0; i < urls; i++) {
+            builder.addUrl("https://example.com/page/" + i);
+        }
+        bulkRequest = builder.buildForChunking();
+    }
+
+    @Benchmark
+    public long serializeBulkRequestStreaming() throws IOException {
+        return write(JsonRequestBody.streaming(codec.writer(BulkRequest.class), bulkRequest));
+    }
+
+    @Benchmark
+    public long serializeBulkRequestViaString() throws IOException {
+        return write(RequestBody.create(objectMapper.writeValueAsString(bulkRequest), JsonRequestBody.JSON));
+    }
+
+    static long write(RequestBody body) throws IOException {
+        Buffer sink = new Buffer();
+        body.writeTo(sink);
+        long size = sink.size();
+        sink.clear();
+        return size;
+    }
+}
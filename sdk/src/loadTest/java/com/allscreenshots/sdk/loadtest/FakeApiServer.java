@@ -0,0 +1,196 @@
+package com.allscreenshots.sdk.loadtest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the Allscreenshots API, built on MockWebServer.
+ *
+ * <p>{@code POST /v1/screenshots} answers with a random image of the configured size; every other
+ * path answers with a small JSON job. Responses can be delayed, rate limited with
+ * {@code Retry-After}, or replaced by 503s during periodic error bursts.</p>
+ */
+public class FakeApiServer implements AutoCloseable {
+
+    private static final String JOB_JSON = """
+            {"id": "job-1", "status": "COMPLETED", "url": "https://example.com",
+             "resultUrl": "https://storage.example.com/job-1.png"}
+            """;
+
+    private final MockWebServer server = new MockWebServer();
+    private final Config config;
+    private final Buffer image;
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+
+    public FakeApiServer(Config config) {
+        this.config = config;
+        byte[] bytes = new byte[config.imageBytes];
+        new Random(42).nextBytes(bytes);
+        this.image = new Buffer().write(bytes);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return respond(request);
+            }
+        });
+    }
+
+    public static Config.Builder config() {
+        return new Config.Builder();
+    }
+
+    public void start() throws IOException {
+        server.start();
+    }
+
+    /**
+     * Returns the base URL to pass to {@code AllscreenshotsClient.Builder.baseUrl}.
+     */
+    public String baseUrl() {
+        return server.url("/").toString().replaceAll("/$", "");
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of TCP connections the client opened.
+     */
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long getServerErrors() {
+        return serverErrors.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        requests.increment();
+        if (request.getSequenceNumber() == 0) {
+            // MockWebServer numbers the requests on each connection from zero
+            connections.increment();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = Math.max(0, config.latency.nextMillis(random));
+
+        MockResponse response;
+        if (inErrorBurst()) {
+            serverErrors.increment();
+            response = json(503, "{\"code\": \"UNAVAILABLE\", \"message\": \"Error burst\"}");
+        } else if (random.nextDouble() < config.rateLimitRate) {
+            rateLimited.increment();
+            response = json(429, "{\"code\": \"RATE_LIMITED\", \"message\": \"Too many requests\"}")
+                    .setHeader("Retry-After", config.retryAfterSeconds);
+        } else if ("POST".equals(request.getMethod()) && "/v1/screenshots".equals(request.getPath())) {
+            response = new MockResponse()
+                    .setHeader("Content-Type", "image/png")
+                    .setBody(image.clone());
+        } else {
+            response = json(200, JOB_JSON);
+        }
+        return response.setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean inErrorBurst() {
+        if (config.burstIntervalMillis <= 0 || config.burstLengthMillis <= 0) {
+            return false;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return elapsedMillis % config.burstIntervalMillis < config.burstLengthMillis;
+    }
+
+    private static MockResponse json(int code, String body) {
+        return new MockResponse()
+                .setResponseCode(code)
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+
+    /**
+     * Behavior of the fake API.
+     */
+    public static class Config {
+        private final LatencyDistribution latency;
+        private final double rateLimitRate;
+        private final long retryAfterSeconds;
+        private final long burstIntervalMillis;
+        private final long burstLengthMillis;
+        private final int imageBytes;
+
+        private Config(Builder builder) {
+            this.latency = builder.latency;
+            this.rateLimitRate = builder.rateLimitRate;
+            this.retryAfterSeconds = builder.retryAfterSeconds;
+            this.burstIntervalMillis = builder.burstIntervalMillis;
+            this.burstLengthMillis = builder.burstLengthMillis;
+            this.imageBytes = builder.imageBytes;
+        }
+
+        public static class Builder {
+            private LatencyDistribution latency = LatencyDistribution.fixed(0);
+            private double rateLimitRate;
+            private long retryAfterSeconds = 1;
+            private long burstIntervalMillis;
+            private long burstLengthMillis;
+            private int imageBytes = 256 * 1024;
+
+            public Builder latency(LatencyDistribution latency) {
+                this.latency = latency;
+                return this;
+            }
+
+            /**
+             * Sets the share of requests answered with 429 and a {@code Retry-After} header.
+             */
+            public Builder rateLimit(double rate, long retryAfterSeconds) {
+                this.rateLimitRate = rate;
+                this.retryAfterSeconds = retryAfterSeconds;
+                return this;
+            }
+
+            /**
+             * Answers every request with 503 for {@code lengthMillis} out of every
+             * {@code intervalMillis}.
+             */
+            public Builder errorBursts(long intervalMillis, long lengthMillis) {
+                this.burstIntervalMillis = intervalMillis;
+                this.burstLengthMillis = lengthMillis;
+                return this;
+            }
+
+            public Builder imageBytes(int imageBytes) {
+                this.imageBytes = imageBytes;
+                return this;
+            }
+
+            public Config build() {
+                return new Config(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.allscreenshots.sdk.loadtest;
+
+import java.util.Random;
+
+/**
+ * Response latency of the fake API, sampled per request.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Samples the latency of one response.
+     *
+     * @param random the source of randomness
+     * @return the latency in milliseconds
+     */
+    long nextMillis(Random random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Log-normal latency, the usual shape of service response times: most requests near the
+     * median with a long tail. A sigma of 0.5 puts p99 at about 3.2 times the median.
+     */
+    static LatencyDistribution logNormal(long medianMillis, double sigma) {
+        double mu = Math.log(medianMillis);
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Parses {@code fixed:50}, {@code uniform:20-200} or {@code lognormal:80,0.5}.
+     *
+     * @param spec the distribution spec
+     * @return the distribution
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":", 2);
+        String kind = parts[0];
+        String value = parts.length > 1 ? parts[1] : "";
+        switch (kind) {
+            case "fixed":
+                return fixed(Long.parseLong(value));
+            case "uniform": {
+                String[] range = value.split("-");
+                return uniform(Long.parseLong(range[0]), Long.parseLong(range[1]));
+            }
+            case "lognormal": {
+                String[] params = value.split(",");
+                return logNormal(Long.parseLong(params[0]), params.length > 1 ? Double.parseDouble(params[1]) : 0.5);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        }
+    }
+}
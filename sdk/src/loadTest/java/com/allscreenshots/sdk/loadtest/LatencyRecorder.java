@@ -0,0 +1,53 @@
+package com.allscreenshots.sdk.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects request latencies of one worker. Not thread-safe; workers each keep their own and
+ * the recorders are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int size;
+
+    void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Merges recorders into one sorted array of latencies.
+     */
+    static long[] mergeSorted(Iterable<LatencyRecorder> recorders) {
+        int total = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.nanos, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * Returns the latency at {@code percentile} (0 to 100) of sorted latencies.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
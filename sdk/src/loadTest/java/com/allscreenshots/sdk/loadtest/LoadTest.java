@@ -0,0 +1,215 @@
+package com.allscreenshots.sdk.loadtest;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.RetryConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives {@link AllscreenshotsClient} from many threads against a {@link FakeApiServer} and
+ * reports throughput, latency percentiles, client allocation rate and connection reuse.
+ *
+ * <p>Run with {@code ./gradlew loadTest --args="--threads=64 --duration=30"}. Options:</p>
+ * <ul>
+ *   <li>{@code --threads=N} concurrent callers (default 16)</li>
+ *   <li>{@code --virtual-threads} run callers on virtual threads (JDK 21+)</li>
+ *   <li>{@code --duration=SECONDS} length of the measured run (default 20), after a 5 second warmup</li>
+ *   <li>{@code --latency=SPEC} server latency: {@code fixed:50}, {@code uniform:20-200} or
+ *       {@code lognormal:80,0.5} (default {@code lognormal:50,0.5})</li>
+ *   <li>{@code --rate-limit=RATE} share of requests answered with 429 (default 0)</li>
+ *   <li>{@code --retry-after=SECONDS} {@code Retry-After} sent with 429s (default 1)</li>
+ *   <li>{@code --error-bursts=INTERVAL_MS/LENGTH_MS} periodic 503 bursts, e.g. {@code 10000/1000}</li>
+ *   <li>{@code --image-bytes=N} size of each screenshot (default 262144)</li>
+ *   <li>{@code --pool=N} idle connections the client keeps (default 5)</li>
+ *   <li>{@code --max-retries=N} client retries (default 3)</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        boolean virtualThreads = options.containsKey("virtual-threads");
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20")));
+
+        FakeApiServer.Config.Builder config = FakeApiServer.config()
+                .latency(LatencyDistribution.parse(options.getOrDefault("latency", "lognormal:50,0.5")))
+                .rateLimit(Double.parseDouble(options.getOrDefault("rate-limit", "0")),
+                        Long.parseLong(options.getOrDefault("retry-after", "1")))
+                .imageBytes(Integer.parseInt(options.getOrDefault("image-bytes", "262144")));
+        if (options.containsKey("error-bursts")) {
+            String[] burst = options.get("error-bursts").split("/");
+            config.errorBursts(Long.parseLong(burst[0]), Long.parseLong(burst[1]));
+        }
+
+        try (FakeApiServer server = new FakeApiServer(config.build())) {
+            server.start();
+            AllscreenshotsClient client = AllscreenshotsClient.builder()
+                    .apiKey("load-test-api-key")
+                    .baseUrl(server.baseUrl())
+                    .connectionPool(Integer.parseInt(options.getOrDefault("pool", "5")), Duration.ofMinutes(5))
+                    .retryConfig(RetryConfig.builder()
+                            .maxRetries(Integer.parseInt(options.getOrDefault("max-retries", "3")))
+                            .build())
+                    .useVirtualThreads(virtualThreads)
+                    .build();
+
+            System.out.printf("Warming up for %ds with %d %s threads%n", WARMUP.toSeconds(), threads,
+                    virtualThreads ? "virtual" : "platform");
+            run(client, threads, virtualThreads, WARMUP);
+
+            long requestsBefore = server.getRequests();
+            long connectionsBefore = server.getConnections();
+            System.out.printf("Measuring for %ds%n", duration.toSeconds());
+            Result result = run(client, threads, virtualThreads, duration);
+
+            report(result, server.getRequests() - requestsBefore, server.getConnections() - connectionsBefore, server);
+        }
+    }
+
+    private static Result run(AllscreenshotsClient client, int threads, boolean virtualThreads, Duration duration)
+            throws InterruptedException {
+        ScreenshotRequest request = ScreenshotRequest.builder()
+                .url("https://example.com")
+                .device("Desktop HD")
+                .build();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        LongAdder failures = new LongAdder();
+        LongAdder allocated = new LongAdder();
+        AtomicBoolean allocationUnknown = new AtomicBoolean();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService executor = newExecutor(threads, virtualThreads);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            executor.execute(() -> {
+                long allocatedBefore = currentThreadAllocatedBytes();
+                while (System.nanoTime() < deadline) {
+                    long callStart = System.nanoTime();
+                    try {
+                        client.screenshots().capture(request);
+                        recorder.record(System.nanoTime() - callStart);
+                    } catch (RuntimeException e) {
+                        failures.increment();
+                    }
+                }
+                long allocatedAfter = currentThreadAllocatedBytes();
+                if (allocatedBefore < 0 || allocatedAfter < 0) {
+                    allocationUnknown.set(true);
+                } else {
+                    allocated.add(allocatedAfter - allocatedBefore);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 300, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return new Result(LatencyRecorder.mergeSorted(recorders), failures.sum(), elapsedNanos,
+                allocationUnknown.get() ? -1 : allocated.sum());
+    }
+
+    private static void report(Result result, long serverRequests, long connections, FakeApiServer server) {
+        double seconds = result.elapsedNanos / 1e9;
+        long[] latencies = result.latencies;
+        System.out.println();
+        System.out.printf("Successful calls   %d (%.1f/s)%n", latencies.length, latencies.length / seconds);
+        System.out.printf("Failed calls       %d%n", result.failures);
+        System.out.printf("Latency p50        %.2f ms%n", millis(LatencyRecorder.percentile(latencies, 50)));
+        System.out.printf("Latency p99        %.2f ms%n", millis(LatencyRecorder.percentile(latencies, 99)));
+        System.out.printf("Latency p99.9      %.2f ms%n", millis(LatencyRecorder.percentile(latencies, 99.9)));
+        System.out.printf("Latency max        %.2f ms%n", millis(latencies.length > 0 ? latencies[latencies.length - 1] : 0));
+        System.out.printf("Server requests    %d (%.1f/s, including retries)%n", serverRequests, serverRequests / seconds);
+        System.out.printf("Connections opened %d (%.1f requests per connection)%n", connections,
+                connections > 0 ? (double) serverRequests / connections : 0);
+        System.out.printf("Answered 429 / 503 %d / %d (whole run)%n", server.getRateLimited(), server.getServerErrors());
+        if (result.allocatedBytes >= 0) {
+            System.out.printf("Allocation rate    %.1f MB/s (%.1f KB per call, caller threads)%n",
+                    result.allocatedBytes / seconds / (1024 * 1024),
+                    latencies.length > 0 ? result.allocatedBytes / 1024.0 / latencies.length : 0);
+        } else {
+            System.out.println("Allocation rate    not available for these threads");
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual threads need JDK 21 or newer", e);
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "load-test-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the bytes allocated so far by the calling thread, or -1 if the JVM cannot tell, as
+     * for virtual threads. Synchronous calls run on the caller's thread, so this is the client's
+     * allocation without the fake server's.
+     */
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String[] parts = arg.substring(2).split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Result {
+        private final long[] latencies;
+        private final long failures;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+
+        Result(long[] latencies, long failures, long elapsedNanos, long allocatedBytes) {
+            this.latencies = latencies;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.allscreenshots.sdk.cache;
+
+/**
+ * How one call uses the result cache.
+ */
+public enum CacheMode {
+
+    /**
+     * Returns a cached result if there is one, and caches the result of the call otherwise.
+     */
+    USE,
+
+    /**
+     * Neither reads nor writes the cache.
+     */
+    BYPASS,
+
+    /**
+     * Ignores any cached result and replaces it with the result of the call.
+     */
+    REFRESH
+}
@@ -0,0 +1,105 @@
+package com.allscreenshots.sdk.cache;
+
+/**
+ * Snapshot of the result cache's counters and size.
+ *
+ * <p>Counters accumulate from when the client was built. A low hit rate with many rejections
+ * means results are rarely requested twice before being pushed out; many evictions with few
+ * rejections means the cache is too small for the results being reused.</p>
+ */
+public final class CacheStats {
+
+    /**
+     * Stats of a client without a result cache.
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long rejectionCount;
+    private final long entryCount;
+    private final long weightedSize;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long rejectionCount,
+                      long entryCount, long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.rejectionCount = rejectionCount;
+        this.entryCount = entryCount;
+        this.weightedSize = weightedSize;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that went to the API.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the share of lookups answered from the cache.
+     *
+     * @return the hit rate, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Returns the number of entries removed to make room or because they expired.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of results not cached because they were used less often than the
+     * entries they would have displaced, or were larger than the whole cache.
+     *
+     * @return the rejection count
+     */
+    public long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the entry count
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns the total size of the cached results.
+     *
+     * @return the size in bytes
+     */
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + ", rejectionCount=" + rejectionCount
+                + ", entryCount=" + entryCount + ", weightedSize=" + weightedSize + '}';
+    }
+}
@@ -0,0 +1,43 @@
+package com.allscreenshots.sdk.cache;
+
+/**
+ * Holds the bytes of cached results.
+ *
+ * <p>The result cache keeps its index, size accounting and eviction order in memory and only
+ * hands the image bytes to a storage, so storages need no eviction logic of their own: the cache
+ * removes every entry it evicts. Implementations must be thread-safe. A storage may lose entries,
+ * for example when files are deleted; {@link #get} then returns null and the cache treats the
+ * lookup as a miss.</p>
+ *
+ * <p>Failures should be thrown as unchecked exceptions. The cache then skips the entry, and the
+ * capture that was being cached still succeeds.</p>
+ *
+ * @see HeapCacheStorage
+ * @see OffHeapCacheStorage
+ * @see DiskCacheStorage
+ */
+public interface CacheStorage {
+
+    /**
+     * Stores {@code value} under {@code key}, replacing any previous value.
+     *
+     * @param key the entry key
+     * @param value the bytes to store; the caller may modify the array afterwards
+     */
+    void put(String key, byte[] value);
+
+    /**
+     * Returns the bytes stored under {@code key}.
+     *
+     * @param key the entry key
+     * @return a copy the caller may modify, or null if nothing is stored
+     */
+    byte[] get(String key);
+
+    /**
+     * Removes the value stored under {@code key}, if any.
+     *
+     * @param key the entry key
+     */
+    void remove(String key);
+}
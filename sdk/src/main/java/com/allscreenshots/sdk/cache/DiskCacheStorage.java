@@ -0,0 +1,109 @@
+package com.allscreenshots.sdk.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Stores cached results as files in a directory.
+ *
+ * <p>Each entry is one {@code allscreenshots-<hash>.cache} file named after a hash of its key,
+ * written to a temporary file first and moved into place, so readers never see a partial image.
+ * The cache's index lives in memory, so files left over from an earlier run cannot be found again;
+ * they are deleted when the storage is created. Only files named the way this storage names them
+ * are deleted, so the directory may hold other files, but a dedicated directory is best.</p>
+ *
+ * <pre>{@code
+ * ResultCacheConfig config = ResultCacheConfig.builder()
+ *     .maximumSize(2L * 1024 * 1024 * 1024)
+ *     .storage(new DiskCacheStorage(Path.of("/var/cache/screenshots")))
+ *     .build();
+ * }</pre>
+ */
+public class DiskCacheStorage implements CacheStorage {
+
+    private static final String PREFIX = "allscreenshots-";
+    private static final String EXTENSION = ".cache";
+    private static final String TEMP_EXTENSION = ".tmp";
+    // Entries, and temporary files left behind by a crash while writing one
+    private static final Pattern OWN_FILE = Pattern.compile("allscreenshots-([0-9a-f]{64}\\.cache|[0-9]+\\.tmp)");
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory to store files in, created if missing
+     * @throws UncheckedIOException if the directory cannot be created or cleared
+     */
+    public DiskCacheStorage(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory,
+                    file -> OWN_FILE.matcher(file.getFileName().toString()).matches())) {
+                for (Path file : stale) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare cache directory " + directory, e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] value) {
+        Path file = file(key);
+        try {
+            Path temp = Files.createTempFile(directory, PREFIX, TEMP_EXTENSION);
+            try {
+                Files.write(temp, value);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write cache file " + file, e);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Path file = file(key);
+        try {
+            return Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cache file " + file, e);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        Path file = file(key);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete cache file " + file, e);
+        }
+    }
+
+    // Keys may hold characters that are not valid in file names
+    private Path file(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(PREFIX + HexFormat.of().formatHex(digest) + EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.allscreenshots.sdk.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores cached results as arrays on the Java heap. The default storage.
+ *
+ * <p>Values are copied on the way in and out, so callers can never modify a cached image.</p>
+ */
+public class HeapCacheStorage implements CacheStorage {
+
+    private final ConcurrentMap<String, byte[]> values = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String key, byte[] value) {
+        values.put(key, value.clone());
+    }
+
+    @Override
+    public byte[] get(String key) {
+        byte[] value = values.get(key);
+        return value != null ? value.clone() : null;
+    }
+
+    @Override
+    public void remove(String key) {
+        values.remove(key);
+    }
+}
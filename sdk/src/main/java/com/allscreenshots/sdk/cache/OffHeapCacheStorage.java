@@ -0,0 +1,41 @@
+package com.allscreenshots.sdk.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores cached results in direct {@link ByteBuffer}s outside the Java heap.
+ *
+ * <p>Keeps large caches from adding to heap size and garbage collection work. Direct memory is
+ * limited by {@code -XX:MaxDirectMemorySize}, which must leave room for the cache's maximum
+ * size. Each buffer is freed by the garbage collector once its entry is removed.</p>
+ */
+public class OffHeapCacheStorage implements CacheStorage {
+
+    private final ConcurrentMap<String, ByteBuffer> values = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String key, byte[] value) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+        buffer.put(value).flip();
+        values.put(key, buffer.asReadOnlyBuffer());
+    }
+
+    @Override
+    public byte[] get(String key) {
+        ByteBuffer buffer = values.get(key);
+        if (buffer == null) {
+            return null;
+        }
+        byte[] value = new byte[buffer.remaining()];
+        // duplicate() so that concurrent readers do not share a position
+        buffer.duplicate().get(value);
+        return value;
+    }
+
+    @Override
+    public void remove(String key) {
+        values.remove(key);
+    }
+}
@@ -1,8 +1,20 @@
 package com.allscreenshots.sdk.client;
 
+import com.allscreenshots.sdk.cache.CacheStats;
+import com.allscreenshots.sdk.metrics.SdkMetrics;
+import com.allscreenshots.sdk.tracing.SdkTracing;
+import com.allscreenshots.sdk.util.CircuitBreakerConfig;
+import com.allscreenshots.sdk.util.ConcurrencyLimitConfig;
+import com.allscreenshots.sdk.util.HedgingConfig;
+import com.allscreenshots.sdk.util.RateLimitConfig;
+import com.allscreenshots.sdk.util.ResultCacheConfig;
 import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Protocol;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Main client for interacting with the Allscreenshots API.
@@ -33,17 +45,21 @@ import java.time.Duration;
  * @see ComposeApi
  * @see SchedulesApi
  * @see UsageApi
+ * @see AsyncAllscreenshotsClient
  */
 public class AllscreenshotsClient {
 
     private static final String DEFAULT_BASE_URL = "https://api.allscreenshots.com";
     private static final String API_KEY_ENV_VAR = "ALLSCREENSHOTS_API_KEY";
 
+    private final Builder config;
+    private final HttpClient httpClient;
     private final ScreenshotsApi screenshotsApi;
     private final BulkApi bulkApi;
     private final ComposeApi composeApi;
     private final SchedulesApi schedulesApi;
     private final UsageApi usageApi;
+    private final AsyncAllscreenshotsClient asyncClient;
 
     private AllscreenshotsClient(Builder builder) {
         String apiKey = builder.apiKey;
@@ -51,19 +67,13 @@ public class AllscreenshotsClient {
             apiKey = System.getenv(API_KEY_ENV_VAR);
         }
 
-        HttpClient httpClient = new HttpClient(
-                builder.baseUrl,
-                apiKey,
-                builder.connectTimeout,
-                builder.readTimeout,
-                builder.writeTimeout,
-                builder.retryConfig,
-                builder.enableLogging
-        );
+        this.config = builder.copy();
+        this.httpClient = new HttpClient(builder, apiKey);
 
-        this.screenshotsApi = new ScreenshotsApi(httpClient);
-        this.bulkApi = new BulkApi(httpClient);
-        this.composeApi = new ComposeApi(httpClient);
+        this.asyncClient = new AsyncAllscreenshotsClient(httpClient);
+        this.screenshotsApi = new ScreenshotsApi(httpClient, asyncClient.screenshots());
+        this.bulkApi = new BulkApi(httpClient, asyncClient.bulk());
+        this.composeApi = new ComposeApi(httpClient, asyncClient.compose());
         this.schedulesApi = new SchedulesApi(httpClient);
         this.usageApi = new UsageApi(httpClient);
     }
@@ -77,6 +87,26 @@ public class AllscreenshotsClient {
         return new Builder();
     }
 
+    /**
+     * Creates a builder preconfigured with this client's settings that shares its connection
+     * pool and dispatcher.
+     *
+     * <p>Use this to create several clients, for example one per tenant API key, that reuse the
+     * same connections and are subject to the same overall request limits:</p>
+     * <pre>{@code
+     * AllscreenshotsClient tenantClient = sharedClient.newBuilder()
+     *     .apiKey(tenantApiKey)
+     *     .build();
+     * }</pre>
+     *
+     * @return a new builder sharing this client's connection pool and dispatcher
+     */
+    public Builder newBuilder() {
+        return config.copy()
+                .connectionPool(httpClient.getConnectionPool())
+                .dispatcher(httpClient.getDispatcher());
+    }
+
     /**
      * Returns the screenshots API for capturing single screenshots.
      *
@@ -122,17 +152,53 @@ public class AllscreenshotsClient {
         return usageApi;
     }
 
+    /**
+     * Returns the non-blocking view of this client, whose APIs return
+     * {@link java.util.concurrent.CompletableFuture}s instead of blocking the caller.
+     *
+     * @return the async client
+     */
+    public AsyncAllscreenshotsClient async() {
+        return asyncClient;
+    }
+
+    /**
+     * Returns a snapshot of the result cache statistics.
+     *
+     * @return the statistics, all zero if the result cache is disabled
+     */
+    public CacheStats resultCacheStats() {
+        return httpClient.resultCacheStats();
+    }
+
     /**
      * Builder for creating {@link AllscreenshotsClient} instances.
      */
     public static class Builder {
-        private String apiKey;
-        private String baseUrl = DEFAULT_BASE_URL;
-        private Duration connectTimeout = Duration.ofSeconds(30);
-        private Duration readTimeout = Duration.ofSeconds(120);
-        private Duration writeTimeout = Duration.ofSeconds(30);
-        private RetryConfig retryConfig = RetryConfig.defaultConfig();
-        private boolean enableLogging = false;
+        String apiKey;
+        String baseUrl = DEFAULT_BASE_URL;
+        Duration connectTimeout = Duration.ofSeconds(30);
+        Duration readTimeout = Duration.ofSeconds(120);
+        Duration writeTimeout = Duration.ofSeconds(30);
+        RetryConfig retryConfig = RetryConfig.defaultConfig();
+        RateLimitConfig rateLimitConfig;
+        ConcurrencyLimitConfig concurrencyLimitConfig;
+        CircuitBreakerConfig circuitBreakerConfig;
+        HedgingConfig hedgingConfig;
+        boolean coalesceCaptures;
+        ResultCacheConfig resultCacheConfig;
+        boolean enableLogging = false;
+        boolean useVirtualThreads = false;
+        boolean fastJsonBinding = false;
+        SdkMetrics metrics;
+        SdkTracing tracing;
+        int maxIdleConnections = 5;
+        Duration keepAlive = Duration.ofMinutes(5);
+        int maxRequests = 64;
+        int maxRequestsPerHost = 64;
+        List<Protocol> protocols;
+        ConnectionPool connectionPool;
+        Dispatcher dispatcher;
 
         /**
          * Sets the API key for authentication.
@@ -213,6 +279,105 @@ public class AllscreenshotsClient {
             return this;
         }
 
+        /**
+         * Enables the client-side rate limiter.
+         *
+         * <p>Requests wait for a permit before they are sent, and a 429 pauses every caller of the
+         * same endpoint family until the {@code Retry-After} window has passed. Disabled by
+         * default. Clients created with {@link AllscreenshotsClient#newBuilder()} get a limiter of
+         * their own, since each API key has its own limits.</p>
+         *
+         * @param rateLimitConfig the rate limits
+         * @return this builder
+         */
+        public Builder rateLimit(RateLimitConfig rateLimitConfig) {
+            this.rateLimitConfig = rateLimitConfig;
+            return this;
+        }
+
+        /**
+         * Enables the adaptive concurrency limiter.
+         *
+         * <p>Caps the requests in flight to the configured endpoint families (captures by
+         * default) and adjusts the cap from latency and 429/5xx responses, so callers can submit
+         * freely without tuning thread pools. Disabled by default.</p>
+         *
+         * @param concurrencyLimitConfig the limiter settings
+         * @return this builder
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitConfig concurrencyLimitConfig) {
+            this.concurrencyLimitConfig = concurrencyLimitConfig;
+            return this;
+        }
+
+        /**
+         * Enables the circuit breaker.
+         *
+         * <p>Each endpoint family gets a circuit that opens when too many recent attempts failed
+         * or were slow. While it is open, calls fail at once with
+         * {@link com.allscreenshots.sdk.exception.CircuitBreakerOpenException} instead of waiting
+         * out timeouts and retries, and a few probe requests decide when it closes again.
+         * Disabled by default.</p>
+         *
+         * @param circuitBreakerConfig the circuit breaker settings
+         * @return this builder
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreakerConfig) {
+            this.circuitBreakerConfig = circuitBreakerConfig;
+            return this;
+        }
+
+        /**
+         * Enables hedged requests.
+         *
+         * <p>A blocking {@code GET} that has had no response after the latency percentile
+         * recently seen for its endpoint family is sent a second time, and the first response
+         * wins. Hedges are capped by a budget relative to the number of calls. Non-blocking calls
+         * are not hedged. Disabled by default.</p>
+         *
+         * @param hedgingConfig the hedging settings
+         * @return this builder
+         */
+        public Builder hedging(HedgingConfig hedgingConfig) {
+            this.hedgingConfig = hedgingConfig;
+            return this;
+        }
+
+        /**
+         * Coalesces identical concurrent captures.
+         *
+         * <p>While a {@code capture(request)} returning bytes is in flight, blocking or not,
+         * further captures of an equal request wait for it and get the same result instead of
+         * sending a request of their own, saving API calls and quota. Requests are compared by
+         * their JSON, ignoring the webhook URL and secret. All callers receive the same array, so
+         * it must not be modified. Disabled by default.</p>
+         *
+         * @param coalesceCaptures whether to coalesce captures
+         * @return this builder
+         */
+        public Builder coalesceCaptures(boolean coalesceCaptures) {
+            this.coalesceCaptures = coalesceCaptures;
+            return this;
+        }
+
+        /**
+         * Caches the results of {@code capture(request)} and {@code getJobResult(jobId)} returning
+         * bytes.
+         *
+         * <p>Repeated captures of an equal request, ignoring the webhook URL and secret, and
+         * repeated fetches of a job result are served locally until the entry expires or is
+         * evicted. Both methods have an overload taking a {@link com.allscreenshots.sdk.cache.CacheMode}
+         * to bypass or refresh the cache per call. Streaming and file variants are not cached.
+         * Disabled by default.</p>
+         *
+         * @param resultCacheConfig the cache settings
+         * @return this builder
+         */
+        public Builder resultCache(ResultCacheConfig resultCacheConfig) {
+            this.resultCacheConfig = resultCacheConfig;
+            return this;
+        }
+
         /**
          * Enables HTTP request/response logging.
          *
@@ -226,6 +391,206 @@ public class AllscreenshotsClient {
             return this;
         }
 
+        /**
+         * Runs asynchronous calls on virtual threads when available.
+         *
+         * <p>On JDK 21 and later, OkHttp's dispatcher executes calls on a virtual-thread-per-task
+         * executor instead of its default cached platform thread pool. On older JVMs this setting
+         * is ignored. Blocking calls run on the caller's thread, so calling the synchronous APIs
+         * from virtual threads (for example with Spring Boot's
+         * {@code spring.threads.virtual.enabled}) scales without sizing thread pools; retry backoff
+         * uses {@link Thread#sleep}, which unmounts rather than pins a virtual thread.</p>
+         *
+         * <p>The exception is a blocking call eligible for {@link #hedging(HedgingConfig) hedging}:
+         * it is enqueued on the dispatcher, together with its hedge if one is sent, while the caller
+         * waits on a lock condition, which also unmounts a virtual thread. Such calls therefore run
+         * on the dispatcher's threads, virtual if this is enabled, and count toward
+         * {@link #maxRequests(int)} and {@link #maxRequestsPerHost(int)}.</p>
+         *
+         * <p>Defaults to false. Ignored when a shared dispatcher is set with
+         * {@link #dispatcher(Dispatcher)}.</p>
+         *
+         * @param useVirtualThreads true to use virtual threads on JDK 21+
+         * @return this builder
+         */
+        public Builder useVirtualThreads(boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
+        /**
+         * Registers Jackson Blackbird on the client's JSON mapper, replacing reflective field
+         * access in the model classes with generated accessors. Speeds up parsing of large
+         * responses such as bulk job status lists.
+         *
+         * <p>Blackbird is an optional dependency; add
+         * {@code com.fasterxml.jackson.module:jackson-module-blackbird} to the application, or the
+         * Gradle feature {@code allscreenshots-sdk-blackbird}. Afterburner is used instead if
+         * only that module is present. Building the client fails if neither is available.</p>
+         *
+         * @param fastJsonBinding true to register Blackbird
+         * @return this builder
+         */
+        public Builder fastJsonBinding(boolean fastJsonBinding) {
+            this.fastJsonBinding = fastJsonBinding;
+            return this;
+        }
+
+        /**
+         * Sets where the client reports request timings, body sizes, retries and pool usage.
+         *
+         * <p>Defaults to {@link SdkMetrics#NOOP}, which skips instrumentation entirely. Use
+         * {@code MicrometerSdkMetrics} to publish to a Micrometer registry.</p>
+         *
+         * @param metrics the metrics sink
+         * @return this builder
+         */
+        public Builder metrics(SdkMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets how the client traces calls: one span per SDK call and a child span per HTTP
+         * attempt, with the trace context propagated in request headers.
+         *
+         * <p>Defaults to {@link SdkTracing#NOOP}, which skips instrumentation entirely. Use
+         * {@code OpenTelemetrySdkTracing} to export spans through OpenTelemetry.</p>
+         *
+         * @param tracing the tracing implementation
+         * @return this builder
+         */
+        public Builder tracing(SdkTracing tracing) {
+            this.tracing = tracing;
+            return this;
+        }
+
+        /**
+         * Sets the connection pool size and how long idle connections are kept alive.
+         *
+         * <p>Defaults to 5 idle connections kept for 5 minutes. Ignored when a shared pool is set
+         * with {@link #connectionPool(ConnectionPool)}.</p>
+         *
+         * @param maxIdleConnections maximum number of idle connections to keep
+         * @param keepAlive how long an idle connection is kept before being closed
+         * @return this builder
+         */
+        public Builder connectionPool(int maxIdleConnections, Duration keepAlive) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative");
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executing concurrently.
+         *
+         * <p>Defaults to 64. Ignored when a shared dispatcher is set with
+         * {@link #dispatcher(Dispatcher)}.</p>
+         *
+         * @param maxRequests the maximum number of concurrent requests
+         * @return this builder
+         */
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests < 1) {
+                throw new IllegalArgumentException("maxRequests must be at least 1");
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of asynchronous requests executing concurrently per host.
+         *
+         * <p>All API traffic goes to a single host, so this defaults to 64 rather than OkHttp's
+         * default of 5. Ignored when a shared dispatcher is set with {@link #dispatcher(Dispatcher)}.</p>
+         *
+         * @param maxRequestsPerHost the maximum number of concurrent requests per host
+         * @return this builder
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("maxRequestsPerHost must be at least 1");
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP protocols to negotiate, in order of preference.
+         *
+         * <p>Defaults to HTTP/2 with a fallback to HTTP/1.1, which multiplexes concurrent requests
+         * over a single connection. Pass {@code List.of(Protocol.HTTP_1_1)} to use one connection
+         * per in-flight request instead.</p>
+         *
+         * @param protocols the protocols, which must include {@link Protocol#HTTP_1_1}
+         *                  or consist only of {@link Protocol#H2_PRIOR_KNOWLEDGE}
+         * @return this builder
+         */
+        public Builder protocols(List<Protocol> protocols) {
+            this.protocols = protocols != null ? List.copyOf(protocols) : null;
+            return this;
+        }
+
+        /**
+         * Shares an existing connection pool with this client.
+         *
+         * <p>Clients sharing a pool reuse each other's connections.</p>
+         *
+         * @param connectionPool the pool to share
+         * @return this builder
+         * @see AllscreenshotsClient#newBuilder()
+         */
+        public Builder connectionPool(ConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        /**
+         * Shares an existing dispatcher with this client.
+         *
+         * <p>Clients sharing a dispatcher are subject to its request limits together.</p>
+         *
+         * @param dispatcher the dispatcher to share
+         * @return this builder
+         * @see AllscreenshotsClient#newBuilder()
+         */
+        public Builder dispatcher(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+            return this;
+        }
+
+        private Builder copy() {
+            Builder copy = new Builder();
+            copy.apiKey = apiKey;
+            copy.baseUrl = baseUrl;
+            copy.connectTimeout = connectTimeout;
+            copy.readTimeout = readTimeout;
+            copy.writeTimeout = writeTimeout;
+            copy.retryConfig = retryConfig;
+            copy.rateLimitConfig = rateLimitConfig;
+            copy.concurrencyLimitConfig = concurrencyLimitConfig;
+            copy.circuitBreakerConfig = circuitBreakerConfig;
+            copy.hedgingConfig = hedgingConfig;
+            copy.coalesceCaptures = coalesceCaptures;
+            copy.resultCacheConfig = resultCacheConfig;
+            copy.enableLogging = enableLogging;
+            copy.useVirtualThreads = useVirtualThreads;
+            copy.fastJsonBinding = fastJsonBinding;
+            copy.metrics = metrics;
+            copy.tracing = tracing;
+            copy.maxIdleConnections = maxIdleConnections;
+            copy.keepAlive = keepAlive;
+            copy.maxRequests = maxRequests;
+            copy.maxRequestsPerHost = maxRequestsPerHost;
+            copy.protocols = protocols;
+            copy.connectionPool = connectionPool;
+            copy.dispatcher = dispatcher;
+            return copy;
+        }
+
         /**
          * Builds the client.
          *
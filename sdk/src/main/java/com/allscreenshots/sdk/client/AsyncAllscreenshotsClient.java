@@ -0,0 +1,80 @@
+package com.allscreenshots.sdk.client;
+
+/**
+ * Non-blocking view of an {@link AllscreenshotsClient}.
+ *
+ * <p>Each API returns {@link java.util.concurrent.CompletableFuture}s backed by OkHttp's
+ * asynchronous dispatcher, so no caller thread is held while a request is in flight. It shares
+ * the connection pool, credentials and retry configuration of the client it was obtained from.</p>
+ *
+ * <pre>{@code
+ * CompletableFuture<byte[]> image = client.async().screenshots().capture(
+ *     ScreenshotRequest.builder()
+ *         .url("https://example.com")
+ *         .build()
+ * );
+ * }</pre>
+ *
+ * @see AllscreenshotsClient#async()
+ */
+public class AsyncAllscreenshotsClient {
+
+    private final AsyncScreenshotsApi screenshotsApi;
+    private final AsyncBulkApi bulkApi;
+    private final AsyncComposeApi composeApi;
+    private final AsyncSchedulesApi schedulesApi;
+    private final AsyncUsageApi usageApi;
+
+    AsyncAllscreenshotsClient(HttpClient httpClient) {
+        this.screenshotsApi = new AsyncScreenshotsApi(httpClient);
+        this.bulkApi = new AsyncBulkApi(httpClient);
+        this.composeApi = new AsyncComposeApi(httpClient);
+        this.schedulesApi = new AsyncSchedulesApi(httpClient);
+        this.usageApi = new AsyncUsageApi(httpClient);
+    }
+
+    /**
+     * Returns the non-blocking screenshots API.
+     *
+     * @return the screenshots API
+     */
+    public AsyncScreenshotsApi screenshots() {
+        return screenshotsApi;
+    }
+
+    /**
+     * Returns the non-blocking bulk API.
+     *
+     * @return the bulk API
+     */
+    public AsyncBulkApi bulk() {
+        return bulkApi;
+    }
+
+    /**
+     * Returns the non-blocking compose API.
+     *
+     * @return the compose API
+     */
+    public AsyncComposeApi compose() {
+        return composeApi;
+    }
+
+    /**
+     * Returns the non-blocking schedules API.
+     *
+     * @return the schedules API
+     */
+    public AsyncSchedulesApi schedules() {
+        return schedulesApi;
+    }
+
+    /**
+     * Returns the non-blocking usage API.
+     *
+     * @return the usage API
+     */
+    public AsyncUsageApi usage() {
+        return usageApi;
+    }
+}
@@ -0,0 +1,90 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API for bulk screenshot operations.
+ *
+ * @see BulkApi
+ */
+public class AsyncBulkApi {
+
+    static final int DEFAULT_CHUNK_CONCURRENCY = 4;
+
+    private final HttpClient httpClient;
+
+    AsyncBulkApi(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates a bulk screenshot job.
+     *
+     * @param request the bulk request
+     * @return a future completing with the created bulk job
+     */
+    public CompletableFuture<BulkResponse> create(BulkRequest request) {
+        return httpClient.postAsync("/v1/screenshots/bulk", request, BulkResponse.class);
+    }
+
+    /**
+     * Splits a large bulk request into chunks and creates a bulk job for each.
+     *
+     * @param request the bulk request, typically built with {@link BulkRequest.Builder#buildForChunking()}
+     * @param chunkSize the maximum number of URLs per bulk job
+     * @return a future completing with a handle to the created bulk jobs
+     * @see BulkApi#createChunked(BulkRequest, int, int)
+     */
+    public CompletableFuture<ChunkedBulkJob> createChunked(BulkRequest request, int chunkSize) {
+        return createChunked(request, chunkSize, DEFAULT_CHUNK_CONCURRENCY);
+    }
+
+    /**
+     * Splits a large bulk request into chunks and creates a bulk job for each, with at most
+     * {@code maxConcurrency} create calls in flight.
+     *
+     * @param request the bulk request, typically built with {@link BulkRequest.Builder#buildForChunking()}
+     * @param chunkSize the maximum number of URLs per bulk job
+     * @param maxConcurrency the maximum number of chunks submitted at once
+     * @return a future completing with a handle to the created bulk jobs
+     * @see BulkApi#createChunked(BulkRequest, int, int)
+     */
+    public CompletableFuture<ChunkedBulkJob> createChunked(BulkRequest request, int chunkSize, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        return ChunkedBulkJob.submit(this, request.split(chunkSize), maxConcurrency);
+    }
+
+    /**
+     * Lists all bulk jobs.
+     *
+     * @return a future completing with the list of bulk job summaries
+     */
+    public CompletableFuture<List<BulkJobSummary>> list() {
+        return httpClient.getAsync("/v1/screenshots/bulk", httpClient.listOf(BulkJobSummary.class));
+    }
+
+    /**
+     * Gets detailed status of a bulk job.
+     *
+     * @param bulkId the bulk job ID
+     * @return a future completing with the bulk job status
+     */
+    public CompletableFuture<BulkStatusResponse> getStatus(String bulkId) {
+        return httpClient.getAsync("/v1/screenshots/bulk/" + bulkId, BulkStatusResponse.class);
+    }
+
+    /**
+     * Cancels a bulk job.
+     *
+     * @param bulkId the bulk job ID
+     * @return a future completing with the updated bulk job summary
+     */
+    public CompletableFuture<BulkJobSummary> cancel(String bulkId) {
+        return httpClient.postAsync("/v1/screenshots/bulk/" + bulkId + "/cancel", null, BulkJobSummary.class);
+    }
+}
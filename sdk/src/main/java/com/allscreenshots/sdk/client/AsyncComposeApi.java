@@ -0,0 +1,185 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.JobFailedException;
+import com.allscreenshots.sdk.model.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking API for composing multiple screenshots into a single image.
+ *
+ * @see ComposeApi
+ */
+public class AsyncComposeApi {
+
+    private static final long TYPICAL_COMPOSE_TIME_MS = 8000;
+
+    private final HttpClient httpClient;
+    private final JobPoller<ComposeJobStatusResponse> jobPoller = new JobPoller<>(TYPICAL_COMPOSE_TIME_MS,
+            job -> JobPoller.millisBetween(job.getCreatedAt(), job.getCompletedAt()));
+    private final JobTracker<ComposeJobStatusResponse> jobTracker;
+
+    AsyncComposeApi(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.jobTracker = new JobTracker<>(JobTracker.DEFAULT_INTERVAL, new JobTracker.JobSource<>() {
+            @Override
+            public CompletableFuture<List<JobTracker.Listed<ComposeJobStatusResponse>>> list() {
+                return listJobs().thenApply(jobs -> jobs.stream()
+                        .map(job -> new JobTracker.Listed<ComposeJobStatusResponse>(job.getJobId(), job.getStatus(), null))
+                        .collect(Collectors.toList()));
+            }
+
+            @Override
+            public CompletableFuture<ComposeJobStatusResponse> fetch(String jobId) {
+                return getJob(jobId);
+            }
+
+            @Override
+            public String statusOf(ComposeJobStatusResponse job) {
+                return job.getStatus();
+            }
+        });
+    }
+
+    /**
+     * Creates a composed screenshot from multiple URLs.
+     *
+     * @param request the compose request
+     * @return a future completing with the compose response
+     */
+    public CompletableFuture<ComposeResponse> create(ComposeRequest request) {
+        return httpClient.postAsync("/v1/screenshots/compose", request, ComposeResponse.class);
+    }
+
+    /**
+     * Creates a composed screenshot as a server-side job.
+     *
+     * @param request the compose request
+     * @return a future completing with the job status
+     */
+    public CompletableFuture<ComposeJobStatusResponse> createAsync(ComposeRequest request) {
+        return httpClient.postAsync("/v1/screenshots/compose", ComposeApi.toAsyncRequest(request),
+                ComposeJobStatusResponse.class);
+    }
+
+    /**
+     * Creates a compose job and completes once it has finished.
+     *
+     * <p>Waits up to 5 minutes for the job to finish.</p>
+     *
+     * @param request the compose request
+     * @return a future completing with the completed job, including its result
+     * @see #awaitResult(String, Duration)
+     */
+    public CompletableFuture<ComposeJobStatusResponse> createAsyncAndAwait(ComposeRequest request) {
+        return createAsyncAndAwait(request, AsyncScreenshotsApi.DEFAULT_AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Creates a compose job and completes once it has finished.
+     *
+     * @param request the compose request
+     * @param timeout the maximum time to wait for the job to finish
+     * @return a future completing with the completed job, including its result
+     * @see #awaitResult(String, Duration)
+     */
+    public CompletableFuture<ComposeJobStatusResponse> createAsyncAndAwait(ComposeRequest request, Duration timeout) {
+        CompletableFuture<ComposeJobStatusResponse> done = Futures.composeCancellable(createAsync(request),
+                job -> jobPoller.await(job.getJobId(), () -> getJob(job.getJobId()),
+                        ComposeJobStatusResponse::isTerminal, timeout));
+        return Futures.composeCancellable(done, AsyncComposeApi::requireCompleted);
+    }
+
+    /**
+     * Waits for a compose job to reach a terminal status.
+     *
+     * <p>Completes with the final job status whether it completed, failed or was cancelled, or
+     * fails with a {@link com.allscreenshots.sdk.exception.JobTimeoutException} if the job is
+     * still running when the timeout elapses.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return a future completing with the terminal job status
+     */
+    public CompletableFuture<ComposeJobStatusResponse> awaitJob(String jobId, Duration timeout) {
+        return jobPoller.await(jobId, () -> getJob(jobId), ComposeJobStatusResponse::isTerminal, timeout);
+    }
+
+    /**
+     * Waits for a compose job to complete.
+     *
+     * <p>Job status is polled with adaptive backoff based on how long recent compose jobs took.
+     * Fails with a {@link JobFailedException} as soon as the job is reported failed or cancelled,
+     * and with a {@link com.allscreenshots.sdk.exception.JobTimeoutException} when the timeout
+     * elapses.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return a future completing with the completed job, including its result
+     */
+    public CompletableFuture<ComposeJobStatusResponse> awaitResult(String jobId, Duration timeout) {
+        return Futures.composeCancellable(awaitJob(jobId, timeout), AsyncComposeApi::requireCompleted);
+    }
+
+    /**
+     * Previews a layout without actually capturing screenshots.
+     *
+     * @param layout the layout type
+     * @param imageCount number of images
+     * @param canvasWidth canvas width
+     * @param canvasHeight canvas height
+     * @param aspectRatios aspect ratios for images
+     * @return a future completing with the layout preview
+     */
+    public CompletableFuture<LayoutPreviewResponse> preview(String layout, int imageCount, Integer canvasWidth,
+                                                             Integer canvasHeight, String aspectRatios) {
+        return httpClient.getAsync(
+                ComposeApi.previewPath(layout, imageCount, canvasWidth, canvasHeight, aspectRatios),
+                LayoutPreviewResponse.class);
+    }
+
+    /**
+     * Returns the shared tracker for compose jobs.
+     *
+     * <p>The tracker refreshes every tracked job with a single {@link #listJobs()} call every
+     * two seconds and fetches a job's full status once it reaches a terminal state.</p>
+     *
+     * @return the job tracker
+     */
+    public JobTracker<ComposeJobStatusResponse> jobTracker() {
+        return jobTracker;
+    }
+
+    /**
+     * Lists all compose jobs.
+     *
+     * @return a future completing with the list of compose job summaries
+     */
+    public CompletableFuture<List<ComposeJobSummaryResponse>> listJobs() {
+        return httpClient.getAsync("/v1/screenshots/compose/jobs", httpClient.listOf(ComposeJobSummaryResponse.class));
+    }
+
+    /**
+     * Gets a compose job's status.
+     *
+     * @param jobId the job ID
+     * @return a future completing with the job status
+     */
+    public CompletableFuture<ComposeJobStatusResponse> getJob(String jobId) {
+        return httpClient.getAsync("/v1/screenshots/compose/jobs/" + jobId, ComposeJobStatusResponse.class);
+    }
+
+    private static CompletableFuture<ComposeJobStatusResponse> requireCompleted(ComposeJobStatusResponse job) {
+        if (job.isCompleted()) {
+            return CompletableFuture.completedFuture(job);
+        }
+        String message = job.getErrorMessage() != null
+                ? job.getErrorMessage()
+                : "Compose job " + job.getJobId() + " ended with status " + job.getStatus();
+        return CompletableFuture.failedFuture(
+                new JobFailedException(message, job.getErrorCode(), job.getJobId(), job.getStatus()));
+    }
+}
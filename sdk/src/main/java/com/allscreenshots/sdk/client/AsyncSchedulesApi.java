@@ -0,0 +1,121 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API for scheduled screenshot operations.
+ *
+ * @see SchedulesApi
+ */
+public class AsyncSchedulesApi {
+
+    private final HttpClient httpClient;
+
+    AsyncSchedulesApi(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates a new scheduled screenshot.
+     *
+     * @param request the schedule request
+     * @return a future completing with the created schedule
+     */
+    public CompletableFuture<ScheduleResponse> create(CreateScheduleRequest request) {
+        return httpClient.postAsync("/v1/schedules", request, ScheduleResponse.class);
+    }
+
+    /**
+     * Lists all schedules.
+     *
+     * @return a future completing with the list of schedules
+     */
+    public CompletableFuture<ScheduleListResponse> list() {
+        return httpClient.getAsync("/v1/schedules", ScheduleListResponse.class);
+    }
+
+    /**
+     * Gets a specific schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing with the schedule
+     */
+    public CompletableFuture<ScheduleResponse> get(String scheduleId) {
+        return httpClient.getAsync("/v1/schedules/" + scheduleId, ScheduleResponse.class);
+    }
+
+    /**
+     * Updates an existing schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @param request the update request
+     * @return a future completing with the updated schedule
+     */
+    public CompletableFuture<ScheduleResponse> update(String scheduleId, UpdateScheduleRequest request) {
+        return httpClient.putAsync("/v1/schedules/" + scheduleId, request, ScheduleResponse.class);
+    }
+
+    /**
+     * Deletes a schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing when the schedule is deleted
+     */
+    public CompletableFuture<Void> delete(String scheduleId) {
+        return httpClient.deleteAsync("/v1/schedules/" + scheduleId);
+    }
+
+    /**
+     * Pauses a schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing with the updated schedule
+     */
+    public CompletableFuture<ScheduleResponse> pause(String scheduleId) {
+        return httpClient.postAsync("/v1/schedules/" + scheduleId + "/pause", null, ScheduleResponse.class);
+    }
+
+    /**
+     * Resumes a paused schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing with the updated schedule
+     */
+    public CompletableFuture<ScheduleResponse> resume(String scheduleId) {
+        return httpClient.postAsync("/v1/schedules/" + scheduleId + "/resume", null, ScheduleResponse.class);
+    }
+
+    /**
+     * Manually triggers a schedule execution.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing with the updated schedule
+     */
+    public CompletableFuture<ScheduleResponse> trigger(String scheduleId) {
+        return httpClient.postAsync("/v1/schedules/" + scheduleId + "/trigger", null, ScheduleResponse.class);
+    }
+
+    /**
+     * Gets the execution history for a schedule.
+     *
+     * @param scheduleId the schedule ID
+     * @return a future completing with the execution history
+     */
+    public CompletableFuture<ScheduleHistoryResponse> getHistory(String scheduleId) {
+        return httpClient.getAsync("/v1/schedules/" + scheduleId + "/history", ScheduleHistoryResponse.class);
+    }
+
+    /**
+     * Gets the execution history for a schedule with a limit.
+     *
+     * @param scheduleId the schedule ID
+     * @param limit maximum number of executions to return
+     * @return a future completing with the execution history
+     */
+    public CompletableFuture<ScheduleHistoryResponse> getHistory(String scheduleId, int limit) {
+        return httpClient.getAsync("/v1/schedules/" + scheduleId + "/history?limit=" + limit,
+                ScheduleHistoryResponse.class);
+    }
+}
@@ -0,0 +1,232 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.cache.CacheMode;
+import com.allscreenshots.sdk.exception.JobFailedException;
+import com.allscreenshots.sdk.model.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking API for screenshot operations.
+ *
+ * <p>Every method returns immediately; the request runs on the HTTP client's dispatcher and
+ * retries are scheduled on a timer rather than blocking a thread.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * client.async().screenshots()
+ *     .capture(ScreenshotRequest.builder()
+ *         .url("https://example.com")
+ *         .build())
+ *     .thenAccept(image -> Files.write(Path.of("screenshot.png"), image));
+ * }</pre>
+ *
+ * @see ScreenshotsApi
+ */
+public class AsyncScreenshotsApi {
+
+    static final Duration DEFAULT_AWAIT_TIMEOUT = Duration.ofMinutes(5);
+    // Where results are delivered, not what is captured, so they do not keep captures apart
+    static final Set<String> WEBHOOK_PROPERTIES = Set.of("webhookUrl", "webhookSecret");
+    private static final long TYPICAL_RENDER_TIME_MS = 3000;
+
+    private final HttpClient httpClient;
+    private final JobPoller<JobResponse> jobPoller = new JobPoller<>(TYPICAL_RENDER_TIME_MS,
+            job -> JobPoller.millisBetween(job.getCreatedAt(), job.getCompletedAt()));
+    private final JobTracker<JobResponse> jobTracker;
+
+    AsyncScreenshotsApi(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.jobTracker = new JobTracker<>(JobTracker.DEFAULT_INTERVAL, new JobTracker.JobSource<>() {
+            @Override
+            public CompletableFuture<List<JobTracker.Listed<JobResponse>>> list() {
+                return listJobs().thenApply(jobs -> jobs.stream()
+                        .map(job -> new JobTracker.Listed<>(job.getId(), job.getStatus(), job))
+                        .collect(Collectors.toList()));
+            }
+
+            @Override
+            public CompletableFuture<JobResponse> fetch(String jobId) {
+                return getJob(jobId);
+            }
+
+            @Override
+            public String statusOf(JobResponse job) {
+                return job.getStatus();
+            }
+        });
+    }
+
+    /**
+     * Captures a screenshot and completes with the image bytes.
+     *
+     * <p>With {@code coalesceCaptures} enabled, a capture of a request equal to one already in
+     * flight shares its result, and cancelling the returned future does not cancel the shared
+     * request.</p>
+     *
+     * @param request the screenshot request
+     * @return a future completing with the screenshot image as bytes
+     */
+    public CompletableFuture<byte[]> capture(ScreenshotRequest request) {
+        return capture(request, CacheMode.USE);
+    }
+
+    /**
+     * Captures a screenshot, using the result cache as {@code mode} says.
+     *
+     * <p>Without a result cache configured, this is the same as {@link #capture(ScreenshotRequest)}.</p>
+     *
+     * @param request the screenshot request
+     * @param mode whether to read and update the result cache
+     * @return a future completing with the screenshot image as bytes
+     */
+    public CompletableFuture<byte[]> capture(ScreenshotRequest request, CacheMode mode) {
+        return httpClient.postForBinaryAsyncShared("/v1/screenshots", request, WEBHOOK_PROPERTIES, mode);
+    }
+
+    /**
+     * Starts an asynchronous screenshot job.
+     *
+     * @param request the screenshot request
+     * @return a future completing with the created job information
+     */
+    public CompletableFuture<AsyncJobCreatedResponse> captureAsync(ScreenshotRequest request) {
+        return httpClient.postAsync("/v1/screenshots/async", request, AsyncJobCreatedResponse.class);
+    }
+
+    /**
+     * Starts an asynchronous screenshot job and completes with the image once it is done.
+     *
+     * <p>Waits up to 5 minutes for the job to finish.</p>
+     *
+     * @param request the screenshot request
+     * @return a future completing with the screenshot image as bytes
+     * @see #awaitResult(String, Duration)
+     */
+    public CompletableFuture<byte[]> captureAsyncAndAwait(ScreenshotRequest request) {
+        return captureAsyncAndAwait(request, DEFAULT_AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Starts an asynchronous screenshot job and completes with the image once it is done.
+     *
+     * @param request the screenshot request
+     * @param timeout the maximum time to wait for the job to finish
+     * @return a future completing with the screenshot image as bytes
+     * @see #awaitResult(String, Duration)
+     */
+    public CompletableFuture<byte[]> captureAsyncAndAwait(ScreenshotRequest request, Duration timeout) {
+        CompletableFuture<JobResponse> done = Futures.composeCancellable(captureAsync(request),
+                job -> jobPoller.await(job.getId(), () -> getJob(job.getId()), JobResponse::isTerminal, timeout));
+        return Futures.composeCancellable(done, this::resultOf);
+    }
+
+    /**
+     * Waits for a job to reach a terminal status.
+     *
+     * <p>Completes with the final job status whether it completed, failed or was cancelled, or
+     * fails with a {@link com.allscreenshots.sdk.exception.JobTimeoutException} if the job is
+     * still running when the timeout elapses.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return a future completing with the terminal job status
+     */
+    public CompletableFuture<JobResponse> awaitJob(String jobId, Duration timeout) {
+        return jobPoller.await(jobId, () -> getJob(jobId), JobResponse::isTerminal, timeout);
+    }
+
+    /**
+     * Waits for a job to complete and fetches its result image.
+     *
+     * <p>Job status is polled with adaptive backoff: the first poll is timed for when jobs
+     * typically finish, based on recent history, and later polls back off exponentially. Fails
+     * with a {@link JobFailedException} as soon as the job is reported failed or cancelled, and
+     * with a {@link com.allscreenshots.sdk.exception.JobTimeoutException} when the timeout
+     * elapses.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return a future completing with the screenshot image as bytes
+     */
+    public CompletableFuture<byte[]> awaitResult(String jobId, Duration timeout) {
+        return Futures.composeCancellable(awaitJob(jobId, timeout), this::resultOf);
+    }
+
+    /**
+     * Returns the shared tracker for screenshot jobs.
+     *
+     * <p>The tracker refreshes every tracked job with a single {@link #listJobs()} call every
+     * two seconds, which is far cheaper than polling thousands of jobs individually.</p>
+     *
+     * @return the job tracker
+     */
+    public JobTracker<JobResponse> jobTracker() {
+        return jobTracker;
+    }
+
+    /**
+     * Lists all screenshot jobs.
+     *
+     * @return a future completing with the list of jobs
+     */
+    public CompletableFuture<List<JobResponse>> listJobs() {
+        return httpClient.getAsync("/v1/screenshots/jobs", httpClient.listOf(JobResponse.class));
+    }
+
+    /**
+     * Gets a specific job's status.
+     *
+     * @param jobId the job ID
+     * @return a future completing with the job status
+     */
+    public CompletableFuture<JobResponse> getJob(String jobId) {
+        return httpClient.getAsync("/v1/screenshots/jobs/" + jobId, JobResponse.class);
+    }
+
+    /**
+     * Gets the result image of a completed job.
+     *
+     * @param jobId the job ID
+     * @return a future completing with the screenshot image as bytes
+     */
+    public CompletableFuture<byte[]> getJobResult(String jobId) {
+        return getJobResult(jobId, CacheMode.USE);
+    }
+
+    /**
+     * Gets the result image of a completed job, using the result cache as {@code mode} says.
+     *
+     * @param jobId the job ID
+     * @param mode whether to read and update the result cache
+     * @return a future completing with the screenshot image as bytes
+     */
+    public CompletableFuture<byte[]> getJobResult(String jobId, CacheMode mode) {
+        return httpClient.getBinaryAsyncCached("/v1/screenshots/jobs/" + jobId + "/result", mode);
+    }
+
+    /**
+     * Cancels a pending or processing job.
+     *
+     * @param jobId the job ID
+     * @return a future completing with the updated job status
+     */
+    public CompletableFuture<JobResponse> cancelJob(String jobId) {
+        return httpClient.postAsync("/v1/screenshots/jobs/" + jobId + "/cancel", null, JobResponse.class);
+    }
+
+    private CompletableFuture<byte[]> resultOf(JobResponse job) {
+        if (job.isCompleted()) {
+            return getJobResult(job.getId());
+        }
+        String message = job.getErrorMessage() != null
+                ? job.getErrorMessage()
+                : "Job " + job.getId() + " ended with status " + job.getStatus();
+        return CompletableFuture.failedFuture(
+                new JobFailedException(message, job.getErrorCode(), job.getId(), job.getStatus()));
+    }
+}
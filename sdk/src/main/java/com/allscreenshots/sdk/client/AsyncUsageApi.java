@@ -0,0 +1,37 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API for usage and quota information.
+ *
+ * @see UsageApi
+ */
+public class AsyncUsageApi {
+
+    private final HttpClient httpClient;
+
+    AsyncUsageApi(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Gets usage statistics.
+     *
+     * @return a future completing with the usage response
+     */
+    public CompletableFuture<UsageResponse> getUsage() {
+        return httpClient.getAsync("/v1/usage", UsageResponse.class);
+    }
+
+    /**
+     * Gets current quota status.
+     *
+     * @return a future completing with the quota status
+     */
+    public CompletableFuture<QuotaStatusResponse> getQuota() {
+        return httpClient.getAsync("/v1/usage/quota", QuotaStatusResponse.class);
+    }
+}
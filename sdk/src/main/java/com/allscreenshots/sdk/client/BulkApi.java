@@ -1,8 +1,14 @@
 package com.allscreenshots.sdk.client;
 
 import com.allscreenshots.sdk.model.*;
+import com.allscreenshots.sdk.util.DownloadOptions;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * API for bulk screenshot operations.
@@ -23,9 +29,11 @@ import java.util.List;
 public class BulkApi {
 
     private final HttpClient httpClient;
+    private final AsyncBulkApi asyncBulkApi;
 
-    BulkApi(HttpClient httpClient) {
+    BulkApi(HttpClient httpClient, AsyncBulkApi asyncBulkApi) {
         this.httpClient = httpClient;
+        this.asyncBulkApi = asyncBulkApi;
     }
 
     /**
@@ -38,14 +46,51 @@ public class BulkApi {
         return httpClient.post("/v1/screenshots/bulk", request, BulkResponse.class);
     }
 
+    /**
+     * Splits a large bulk request into chunks and creates a bulk job for each.
+     *
+     * @param request the bulk request, typically built with {@link BulkRequest.Builder#buildForChunking()}
+     * @param chunkSize the maximum number of URLs per bulk job
+     * @return a handle to the created bulk jobs
+     * @see #createChunked(BulkRequest, int, int)
+     */
+    public ChunkedBulkJob createChunked(BulkRequest request, int chunkSize) {
+        return Futures.await(asyncBulkApi.createChunked(request, chunkSize));
+    }
+
+    /**
+     * Splits a large bulk request into chunks and creates a bulk job for each.
+     *
+     * <p>Every chunk carries the request's defaults and webhook settings. Chunks are submitted in
+     * a pipeline: up to {@code maxConcurrency} create calls are in flight, and each one that
+     * finishes starts the next chunk. Each create call is retried on its own, so one failing chunk
+     * does not fail the others. Chunks that still fail are reported by
+     * {@link ChunkedBulkJob#getFailedChunks()}; the call only throws if no chunk was created.</p>
+     *
+     * <pre>{@code
+     * BulkRequest.Builder builder = BulkRequest.builder()
+     *     .defaults(BulkDefaults.builder().device("Desktop HD").build());
+     * urls.forEach(builder::addUrl);
+     *
+     * ChunkedBulkJob job = client.bulk().createChunked(builder.buildForChunking(), 100, 4);
+     * }</pre>
+     *
+     * @param request the bulk request, typically built with {@link BulkRequest.Builder#buildForChunking()}
+     * @param chunkSize the maximum number of URLs per bulk job (1 to {@link BulkRequest#MAX_URLS})
+     * @param maxConcurrency the maximum number of chunks submitted at once
+     * @return a handle to the created bulk jobs
+     */
+    public ChunkedBulkJob createChunked(BulkRequest request, int chunkSize, int maxConcurrency) {
+        return Futures.await(asyncBulkApi.createChunked(request, chunkSize, maxConcurrency));
+    }
+
     /**
      * Lists all bulk jobs.
      *
      * @return list of bulk job summaries
      */
     public List<BulkJobSummary> list() {
-        return httpClient.get("/v1/screenshots/bulk",
-            httpClient.getObjectMapper().getTypeFactory().constructCollectionType(List.class, BulkJobSummary.class));
+        return httpClient.get("/v1/screenshots/bulk", httpClient.listOf(BulkJobSummary.class));
     }
 
     /**
@@ -58,6 +103,71 @@ public class BulkApi {
         return httpClient.get("/v1/screenshots/bulk/" + bulkId, BulkStatusResponse.class);
     }
 
+    /**
+     * Streams the jobs of a bulk request as they finish.
+     *
+     * <p>Each job is emitted exactly once, as soon as a status poll shows it completed, failed or
+     * was cancelled, so downstream processing can start on the first finished URL. Polling
+     * adapts to the bulk job's progress and ends once every job is accounted for.</p>
+     *
+     * <p>The stream is lazy and blocks the consuming thread between polls.</p>
+     *
+     * <pre>{@code
+     * client.bulk().stream(bulk.getId())
+     *     .filter(BulkJobDetailInfo::isCompleted)
+     *     .forEach(job -> download(job.getResultUrl()));
+     * }</pre>
+     *
+     * @param bulkId the bulk job ID
+     * @return a stream of finished jobs
+     */
+    public Stream<BulkJobDetailInfo> stream(String bulkId) {
+        BulkResultIterator iterator = new BulkResultIterator(() -> getStatus(bulkId));
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Downloads the result of every completed job of a bulk request into a directory.
+     *
+     * @param bulkId the bulk job ID
+     * @param directory the directory to write the results to
+     * @return a summary of the downloaded files and failures
+     * @see #downloadAll(String, Path, DownloadOptions)
+     */
+    public DownloadSummary downloadAll(String bulkId, Path directory) {
+        return downloadAll(bulkId, directory, DownloadOptions.defaults());
+    }
+
+    /**
+     * Downloads the result of every completed job of a bulk request into a directory.
+     *
+     * <p>Downloads start as soon as each job finishes, with at most
+     * {@link DownloadOptions#getConcurrency()} in flight. Each result is streamed to a
+     * {@code .part} file next to its target and moved into place once complete. An interrupted
+     * download is continued with an HTTP range request on the next attempt or the next call, and
+     * the finished file is checked against the size reported by the API.</p>
+     *
+     * <p>A failed download does not stop the others; failures are listed in the returned summary.
+     * A job whose file name would lead outside {@code directory} or clash with another job's is
+     * listed as failed without being downloaded.</p>
+     *
+     * <pre>{@code
+     * DownloadSummary summary = client.bulk().downloadAll(bulk.getId(), Path.of("shots"),
+     *     DownloadOptions.builder().concurrency(8).build());
+     * System.out.println(summary.getFilesDownloaded() + " files, " + summary.getFailures().size() + " failed");
+     * }</pre>
+     *
+     * @param bulkId the bulk job ID
+     * @param directory the directory to write the results to
+     * @param options download options
+     * @return a summary of the downloaded files and failures
+     */
+    public DownloadSummary downloadAll(String bulkId, Path directory, DownloadOptions options) {
+        return new BulkDownloader(httpClient).download(stream(bulkId), directory, options);
+    }
+
     /**
      * Cancels a bulk job.
      *
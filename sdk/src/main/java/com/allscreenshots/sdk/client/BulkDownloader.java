@@ -0,0 +1,174 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.model.BulkJobDetailInfo;
+import com.allscreenshots.sdk.model.DownloadSummary;
+import com.allscreenshots.sdk.model.FileCaptureResult;
+import com.allscreenshots.sdk.util.DownloadOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Downloads finished bulk jobs while the rest of the bulk job is still running.
+ *
+ * <p>A semaphore bounds the downloads in flight, so a slow disk or network pushes back on the
+ * consuming thread instead of queueing every result URL in memory.</p>
+ */
+final class BulkDownloader {
+
+    private final HttpClient httpClient;
+
+    BulkDownloader(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    DownloadSummary download(Stream<BulkJobDetailInfo> jobs, Path directory, DownloadOptions options) {
+        createDirectories(directory);
+        Path root = directory.toAbsolutePath().normalize();
+
+        int concurrency = options.getConcurrency();
+        Semaphore permits = new Semaphore(concurrency);
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        AtomicInteger files = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        Set<Path> targets = new HashSet<>();
+        long startNanos = System.nanoTime();
+
+        ExecutorService executor = newExecutor(concurrency);
+        HttpClient.CallGroup calls = new HttpClient.CallGroup();
+        boolean finished = false;
+        try {
+            jobs.forEach(job -> {
+                if (!job.isCompleted()) {
+                    skipped.incrementAndGet();
+                    return;
+                }
+                String url = job.getResultUrl() != null ? job.getResultUrl() : job.getStorageUrl();
+                if (url == null) {
+                    failures.put(job.getId(), "Job has no result URL");
+                    return;
+                }
+
+                Path target = target(root, options.fileNameFor(job));
+                if (target == null) {
+                    failures.put(job.getId(), "File name is not inside the download directory");
+                    return;
+                }
+                if (!targets.add(target)) {
+                    failures.put(job.getId(), "File name is already used by another job");
+                    return;
+                }
+                Long expectedSize = options.isVerifySize() ? job.getFileSize() : null;
+                acquire(permits, 1);
+                executor.execute(() -> {
+                    try {
+                        FileCaptureResult result = httpClient.download(url, target, expectedSize,
+                                options.isResume(), calls);
+                        files.incrementAndGet();
+                        bytes.addAndGet(result.getBytesWritten());
+                    } catch (RuntimeException e) {
+                        failures.put(job.getId(), String.valueOf(e.getMessage()));
+                    } finally {
+                        calls.leave();
+                        permits.release();
+                    }
+                });
+            });
+            // Holding every permit means every download has finished
+            acquire(permits, concurrency);
+            finished = true;
+        } finally {
+            if (finished) {
+                executor.shutdown();
+            } else {
+                stop(executor, calls);
+            }
+        }
+
+        return new DownloadSummary(files.get(), bytes.get(), skipped.get(),
+                Duration.ofNanos(System.nanoTime() - startNanos), failures);
+    }
+
+    /**
+     * Resolves a file name against the download directory, or returns null if the name is invalid
+     * or, being absolute or containing {@code ..}, leads outside it.
+     */
+    private static Path target(Path root, String fileName) {
+        try {
+            Path target = root.resolve(fileName).normalize();
+            return target.startsWith(root) && !target.equals(root) ? target : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private ExecutorService newExecutor(int concurrency) {
+        if (httpClient.isUsingVirtualThreads()) {
+            return VirtualThreads.newVirtualThreadPerTaskExecutor();
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "allscreenshots-download-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Interrupts the downloads still running, cancels their calls and waits for them to end, so
+     * that none is left writing files after the caller has seen the failure.
+     */
+    private static void stop(ExecutorService executor, HttpClient.CallGroup calls) {
+        executor.shutdownNow();
+        calls.cancel();
+        boolean interrupted = Thread.interrupted();
+        try {
+            while (true) {
+                try {
+                    if (executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void acquire(Semaphore permits, int count) {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AllscreenshotsException("Interrupted while downloading bulk results", e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new AllscreenshotsException("Failed to create download directory " + directory, e);
+        }
+    }
+}
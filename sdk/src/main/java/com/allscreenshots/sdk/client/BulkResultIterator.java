@@ -0,0 +1,118 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.model.BulkJobDetailInfo;
+import com.allscreenshots.sdk.model.BulkStatusResponse;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Blocking iterator over the jobs of a bulk request, yielding each job once it finishes.
+ *
+ * <p>The bulk status is polled until every job is accounted for. The delay between polls follows
+ * the observed completion rate: while jobs are finishing, the next poll is timed for roughly when
+ * the next job should finish; when a poll brings no progress, the delay backs off.</p>
+ */
+final class BulkResultIterator implements Iterator<BulkJobDetailInfo> {
+
+    private static final long MIN_DELAY_MS = 500;
+    private static final long MAX_DELAY_MS = 10_000;
+    private static final long INITIAL_DELAY_MS = 1000;
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+
+    private final Supplier<BulkStatusResponse> fetchStatus;
+    private final Set<String> emitted = new HashSet<>();
+    private final ArrayDeque<BulkJobDetailInfo> ready = new ArrayDeque<>();
+    private final long startNanos = System.nanoTime();
+
+    private boolean polled;
+    private boolean finished;
+    private long delayMs = INITIAL_DELAY_MS;
+    private int lastProgress = -1;
+
+    BulkResultIterator(Supplier<BulkStatusResponse> fetchStatus) {
+        this.fetchStatus = fetchStatus;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (ready.isEmpty() && !finished) {
+            if (polled) {
+                sleep(delayMs);
+            }
+            poll();
+        }
+        return !ready.isEmpty();
+    }
+
+    @Override
+    public BulkJobDetailInfo next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return ready.poll();
+    }
+
+    private void poll() {
+        BulkStatusResponse status = fetchStatus.get();
+        polled = true;
+
+        if (status.getJobs() != null) {
+            for (BulkJobDetailInfo job : status.getJobs()) {
+                if (isTerminal(job.getStatus()) && emitted.add(job.getId())) {
+                    ready.add(job);
+                }
+            }
+        }
+
+        finished = isFinished(status);
+        delayMs = nextDelayMs(status);
+    }
+
+    private long nextDelayMs(BulkStatusResponse status) {
+        int progress = status.getProgress() != null ? status.getProgress() : 0;
+        boolean progressed = progress > lastProgress || !ready.isEmpty();
+        lastProgress = Math.max(lastProgress, progress);
+
+        if (!progressed || emitted.isEmpty()) {
+            return Math.min(MAX_DELAY_MS, (long) (delayMs * BACKOFF_MULTIPLIER));
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long perJobMs = elapsedMs / emitted.size();
+        return Math.max(MIN_DELAY_MS, Math.min(MAX_DELAY_MS, perJobMs));
+    }
+
+    private static boolean isFinished(BulkStatusResponse status) {
+        if (isTerminal(status.getStatus())) {
+            return true;
+        }
+        if (status.getTotalJobs() == null) {
+            return false;
+        }
+        int completed = status.getCompletedJobs() != null ? status.getCompletedJobs() : 0;
+        int failed = status.getFailedJobs() != null ? status.getFailedJobs() : 0;
+        return completed + failed >= status.getTotalJobs();
+    }
+
+    private static boolean isTerminal(String status) {
+        return "COMPLETED".equalsIgnoreCase(status)
+                || "FAILED".equalsIgnoreCase(status)
+                || "CANCELLED".equalsIgnoreCase(status);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AllscreenshotsException("Interrupted while waiting for bulk results", e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AuthenticationException;
+import com.allscreenshots.sdk.exception.CircuitBreakerOpenException;
+import com.allscreenshots.sdk.exception.ConcurrencyLimitException;
+import com.allscreenshots.sdk.model.BulkJobSummary;
+import com.allscreenshots.sdk.model.BulkRequest;
+import com.allscreenshots.sdk.model.BulkResponse;
+import com.allscreenshots.sdk.model.BulkStatusResponse;
+import com.allscreenshots.sdk.model.ChunkedBulkStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle to the bulk jobs created for a request split by {@link BulkApi#createChunked}.
+ *
+ * <p>Each chunk becomes its own bulk job on the server. This handle tracks them together and
+ * merges their status and progress.</p>
+ *
+ * <pre>{@code
+ * ChunkedBulkJob job = client.bulk().createChunked(request, 100);
+ * ChunkedBulkStatus status = job.getStatus();
+ * System.out.println(status.getProgress() + "% of " + status.getTotalJobs() + " URLs");
+ * }</pre>
+ */
+public class ChunkedBulkJob {
+
+    private final AsyncBulkApi bulkApi;
+    private final List<BulkResponse> bulkJobs;
+    private final List<BulkRequest> failedChunks;
+    private final List<Throwable> submissionErrors;
+
+    private ChunkedBulkJob(AsyncBulkApi bulkApi, List<BulkResponse> bulkJobs, List<BulkRequest> failedChunks,
+                           List<Throwable> submissionErrors) {
+        this.bulkApi = bulkApi;
+        this.bulkJobs = Collections.unmodifiableList(bulkJobs);
+        this.failedChunks = Collections.unmodifiableList(failedChunks);
+        this.submissionErrors = Collections.unmodifiableList(submissionErrors);
+    }
+
+    /**
+     * Submits the chunks with at most {@code maxConcurrency} create calls in flight. Each finished
+     * call starts the next chunk, so the pipeline stays full without queueing every chunk at once.
+     */
+    static CompletableFuture<ChunkedBulkJob> submit(AsyncBulkApi bulkApi, List<BulkRequest> chunks,
+                                                    int maxConcurrency) {
+        BulkResponse[] created = new BulkResponse[chunks.size()];
+        Throwable[] errors = new Throwable[chunks.size()];
+        AtomicInteger next = new AtomicInteger();
+
+        List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        for (int i = 0; i < Math.min(maxConcurrency, chunks.size()); i++) {
+            lanes.add(submitLane(bulkApi, chunks, created, errors, next));
+        }
+
+        return CompletableFuture.allOf(lanes.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<BulkResponse> bulkJobs = new ArrayList<>();
+            List<BulkRequest> failedChunks = new ArrayList<>();
+            List<Throwable> submissionErrors = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                if (created[i] != null) {
+                    bulkJobs.add(created[i]);
+                } else {
+                    failedChunks.add(chunks.get(i));
+                }
+                if (errors[i] != null) {
+                    submissionErrors.add(errors[i]);
+                }
+            }
+            if (bulkJobs.isEmpty()) {
+                throw new CompletionException(submissionErrors.get(0));
+            }
+            return new ChunkedBulkJob(bulkApi, bulkJobs, failedChunks, submissionErrors);
+        });
+    }
+
+    /**
+     * Submits chunks one after another until none are left. Calls that are already complete,
+     * such as ones rejected by an open circuit, are handled in a loop rather than by chaining
+     * futures, so the stack stays flat however many chunks fail at once.
+     */
+    private static CompletableFuture<Void> submitLane(AsyncBulkApi bulkApi, List<BulkRequest> chunks,
+                                                      BulkResponse[] created, Throwable[] errors,
+                                                      AtomicInteger next) {
+        CompletableFuture<Void> lane = new CompletableFuture<>();
+        continueLane(bulkApi, chunks, created, errors, next, lane);
+        return lane;
+    }
+
+    private static void continueLane(AsyncBulkApi bulkApi, List<BulkRequest> chunks, BulkResponse[] created,
+                                     Throwable[] errors, AtomicInteger next, CompletableFuture<Void> lane) {
+        while (true) {
+            int index = next.getAndIncrement();
+            if (index >= chunks.size()) {
+                lane.complete(null);
+                return;
+            }
+
+            CompletableFuture<BulkResponse> create;
+            try {
+                create = bulkApi.create(chunks.get(index));
+            } catch (RuntimeException e) {
+                create = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<Void> recorded = create.handle((response, error) -> {
+                if (error == null) {
+                    created[index] = response;
+                    return null;
+                }
+                errors[index] = Futures.unwrap(error);
+                if (stopsSubmission(errors[index])) {
+                    // Every remaining chunk would be rejected the same way
+                    next.set(chunks.size());
+                }
+                return null;
+            });
+            if (!recorded.isDone()) {
+                recorded.thenRun(() -> continueLane(bulkApi, chunks, created, errors, next, lane));
+                return;
+            }
+        }
+    }
+
+    private static boolean stopsSubmission(Throwable error) {
+        return error instanceof AuthenticationException
+                || error instanceof CircuitBreakerOpenException
+                || error instanceof ConcurrencyLimitException;
+    }
+
+    /**
+     * Returns the IDs of the bulk jobs created, in chunk order.
+     *
+     * @return the child bulk job IDs
+     */
+    public List<String> getIds() {
+        List<String> ids = new ArrayList<>(bulkJobs.size());
+        for (BulkResponse bulkJob : bulkJobs) {
+            ids.add(bulkJob.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the bulk jobs created, in chunk order.
+     *
+     * @return the child bulk jobs
+     */
+    public List<BulkResponse> getBulkJobs() {
+        return bulkJobs;
+    }
+
+    /**
+     * Returns the number of screenshot jobs across all created bulk jobs.
+     *
+     * @return the total number of jobs
+     */
+    public int getTotalJobs() {
+        int total = 0;
+        for (BulkResponse bulkJob : bulkJobs) {
+            total += bulkJob.getTotalJobs() != null ? bulkJob.getTotalJobs() : 0;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the chunks that could not be submitted. Each is a valid request that can be passed
+     * to {@link BulkApi#create} again.
+     *
+     * @return the unsubmitted chunks, empty if every chunk was created
+     */
+    public List<BulkRequest> getFailedChunks() {
+        return failedChunks;
+    }
+
+    /**
+     * Returns the errors of the chunks that failed to submit.
+     *
+     * @return the submission errors
+     */
+    public List<Throwable> getSubmissionErrors() {
+        return submissionErrors;
+    }
+
+    /**
+     * Gets the merged status of all created bulk jobs.
+     *
+     * @return the combined status
+     */
+    public ChunkedBulkStatus getStatus() {
+        return Futures.await(getStatusAsync());
+    }
+
+    /**
+     * Gets the merged status of all created bulk jobs without blocking.
+     *
+     * @return a future completing with the combined status
+     */
+    public CompletableFuture<ChunkedBulkStatus> getStatusAsync() {
+        List<CompletableFuture<BulkStatusResponse>> statuses = new ArrayList<>();
+        for (BulkResponse bulkJob : bulkJobs) {
+            statuses.add(bulkApi.getStatus(bulkJob.getId()));
+        }
+        return CompletableFuture.allOf(statuses.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<BulkStatusResponse> children = new ArrayList<>(statuses.size());
+            for (CompletableFuture<BulkStatusResponse> status : statuses) {
+                children.add(status.join());
+            }
+            return new ChunkedBulkStatus(children);
+        });
+    }
+
+    /**
+     * Cancels all created bulk jobs.
+     *
+     * @return the updated summary of each bulk job
+     */
+    public List<BulkJobSummary> cancel() {
+        List<CompletableFuture<BulkJobSummary>> cancelled = new ArrayList<>();
+        for (BulkResponse bulkJob : bulkJobs) {
+            cancelled.add(bulkApi.cancel(bulkJob.getId()));
+        }
+        List<BulkJobSummary> summaries = new ArrayList<>(cancelled.size());
+        for (CompletableFuture<BulkJobSummary> summary : cancelled) {
+            summaries.add(Futures.await(summary));
+        }
+        return summaries;
+    }
+}
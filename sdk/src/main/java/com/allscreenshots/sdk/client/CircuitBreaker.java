@@ -0,0 +1,232 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.CircuitBreakerOpenException;
+import com.allscreenshots.sdk.metrics.SdkMetrics;
+import com.allscreenshots.sdk.util.CircuitBreakerConfig;
+import com.allscreenshots.sdk.util.CircuitState;
+import com.allscreenshots.sdk.util.EndpointFamily;
+import okhttp3.HttpUrl;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One circuit per endpoint family, each a count-based sliding window over recent attempts.
+ *
+ * <p>Every attempt to a covered endpoint takes a {@link Permit} before it is sent and releases it
+ * when its response headers arrive or it fails, like {@link ConcurrencyLimiter}. Outcomes are
+ * only recorded by the state they were admitted in: a slow attempt let through while the circuit
+ * was closed does not decide the fate of the probes that follow it.</p>
+ */
+final class CircuitBreaker {
+
+    private final CircuitBreakerConfig config;
+    private final HttpUrl apiBase;
+    private final SdkMetrics metrics;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final Map<EndpointFamily, Circuit> circuits = new EnumMap<>(EndpointFamily.class);
+
+    CircuitBreaker(CircuitBreakerConfig config, HttpUrl apiBase, SdkMetrics metrics) {
+        this.config = config;
+        this.apiBase = apiBase;
+        this.metrics = metrics;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.openNanos = config.getOpenDuration().toNanos();
+        for (EndpointFamily family : config.getFamilies()) {
+            circuits.put(family, new Circuit(family));
+            metrics.circuitStateChanged(family, CircuitState.CLOSED);
+        }
+    }
+
+    /**
+     * Admits an attempt to {@code url}.
+     *
+     * @return the permit to release once the attempt is done, or null if no circuit covers the URL
+     * @throws CircuitBreakerOpenException if the circuit is open
+     */
+    Permit acquire(HttpUrl url) {
+        if (!Endpoints.isApiHost(url, apiBase)) {
+            return null;
+        }
+        EndpointFamily family = Endpoints.family(url, apiBase);
+        Circuit circuit = family != null ? circuits.get(family) : null;
+        return circuit != null ? circuit.acquire() : null;
+    }
+
+    private final class Circuit {
+
+        private final EndpointFamily family;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final boolean[] failed = new boolean[config.getSlidingWindowSize()];
+        private final boolean[] slow = new boolean[config.getSlidingWindowSize()];
+        private CircuitState state = CircuitState.CLOSED;
+        private long generation;
+        private int calls;
+        private int next;
+        private int failures;
+        private int slowCalls;
+        private long openedAt;
+        private int probes;
+        private int probeSuccesses;
+
+        private Circuit(EndpointFamily family) {
+            this.family = family;
+        }
+
+        Permit acquire() {
+            CircuitState changed = null;
+            Permit permit;
+            lock.lock();
+            try {
+                if (state == CircuitState.OPEN) {
+                    long remaining = openNanos - (System.nanoTime() - openedAt);
+                    if (remaining > 0) {
+                        throw rejected(Duration.ofNanos(remaining));
+                    }
+                    changed = transition(CircuitState.HALF_OPEN);
+                }
+                if (state == CircuitState.HALF_OPEN) {
+                    if (probes >= config.getHalfOpenCalls()) {
+                        throw rejected(Duration.ZERO);
+                    }
+                    probes++;
+                }
+                permit = new Permit(this, generation);
+            } finally {
+                lock.unlock();
+            }
+            publish(changed);
+            return permit;
+        }
+
+        void release(Permit permit, boolean failure, boolean slowCall) {
+            CircuitState changed = null;
+            lock.lock();
+            try {
+                if (permit.generation != generation) {
+                    return;
+                }
+                if (state == CircuitState.HALF_OPEN) {
+                    if (failure || slowCall) {
+                        changed = transition(CircuitState.OPEN);
+                    } else if (++probeSuccesses >= config.getHalfOpenCalls()) {
+                        changed = transition(CircuitState.CLOSED);
+                    }
+                } else if (state == CircuitState.CLOSED) {
+                    record(failure, slowCall);
+                    if (calls >= config.getMinimumCalls()
+                            && (failures >= calls * config.getFailureRateThreshold()
+                            || slowCalls >= calls * config.getSlowCallRateThreshold())) {
+                        changed = transition(CircuitState.OPEN);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            publish(changed);
+        }
+
+        void cancel(Permit permit) {
+            lock.lock();
+            try {
+                if (permit.generation == generation && state == CircuitState.HALF_OPEN) {
+                    probes--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Called with the lock held
+        private void record(boolean failure, boolean slowCall) {
+            if (calls == failed.length) {
+                failures -= failed[next] ? 1 : 0;
+                slowCalls -= slow[next] ? 1 : 0;
+            } else {
+                calls++;
+            }
+            failed[next] = failure;
+            slow[next] = slowCall;
+            failures += failure ? 1 : 0;
+            slowCalls += slowCall ? 1 : 0;
+            next = (next + 1) % failed.length;
+        }
+
+        // Called with the lock held; outcomes of attempts admitted before now are ignored
+        private CircuitState transition(CircuitState to) {
+            state = to;
+            generation++;
+            if (to == CircuitState.OPEN) {
+                openedAt = System.nanoTime();
+            } else if (to == CircuitState.HALF_OPEN) {
+                probes = 0;
+                probeSuccesses = 0;
+            } else {
+                calls = 0;
+                next = 0;
+                failures = 0;
+                slowCalls = 0;
+            }
+            return to;
+        }
+
+        private CircuitBreakerOpenException rejected(Duration remaining) {
+            return new CircuitBreakerOpenException(
+                    "Circuit breaker for " + family + " endpoints is " + state, family, remaining);
+        }
+
+        // Called outside the lock so that metrics implementations cannot stall other callers
+        private void publish(CircuitState changed) {
+            if (changed != null) {
+                metrics.circuitStateChanged(family, changed);
+            }
+        }
+    }
+
+    /**
+     * Admission of one attempt.
+     */
+    final class Permit {
+
+        private final Circuit circuit;
+        private final long generation;
+        private long sentNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(Circuit circuit, long generation) {
+            this.circuit = circuit;
+            this.generation = generation;
+        }
+
+        /**
+         * Starts timing the attempt, once any client-side waiting is over.
+         */
+        void sent() {
+            sentNanos = System.nanoTime();
+        }
+
+        /**
+         * Records the outcome after a response, or with status 0 after a network failure.
+         */
+        void release(int status) {
+            if (!released) {
+                released = true;
+                long elapsed = System.nanoTime() - sentNanos;
+                circuit.release(this, status == 0 || status >= 500, elapsed > slowCallNanos);
+            }
+        }
+
+        /**
+         * Releases the admission of an attempt that was never sent.
+         */
+        void cancel() {
+            if (!released) {
+                released = true;
+                circuit.cancel(this);
+            }
+        }
+    }
+}
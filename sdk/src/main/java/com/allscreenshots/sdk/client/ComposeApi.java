@@ -1,7 +1,10 @@
 package com.allscreenshots.sdk.client;
 
+import com.allscreenshots.sdk.exception.JobFailedException;
+import com.allscreenshots.sdk.exception.JobTimeoutException;
 import com.allscreenshots.sdk.model.*;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -30,9 +33,11 @@ import java.util.List;
 public class ComposeApi {
 
     private final HttpClient httpClient;
+    private final AsyncComposeApi asyncApi;
 
-    ComposeApi(HttpClient httpClient) {
+    ComposeApi(HttpClient httpClient, AsyncComposeApi asyncApi) {
         this.httpClient = httpClient;
+        this.asyncApi = asyncApi;
     }
 
     /**
@@ -52,17 +57,61 @@ public class ComposeApi {
      * @return the job status
      */
     public ComposeJobStatusResponse createAsync(ComposeRequest request) {
-        ComposeRequest asyncRequest = ComposeRequest.builder()
-                .captures(request.getCaptures())
-                .url(request.getUrl())
-                .variants(request.getVariants())
-                .defaults(request.getDefaults())
-                .output(request.getOutput())
-                .async(true)
-                .webhookUrl(request.getWebhookUrl())
-                .webhookSecret(request.getWebhookSecret())
-                .build();
-        return httpClient.post("/v1/screenshots/compose", asyncRequest, ComposeJobStatusResponse.class);
+        return httpClient.post("/v1/screenshots/compose", toAsyncRequest(request), ComposeJobStatusResponse.class);
+    }
+
+    /**
+     * Creates a compose job and waits for it to finish.
+     *
+     * <p>Waits up to 5 minutes for the job to finish.</p>
+     *
+     * @param request the compose request
+     * @return the completed job, including its result
+     * @see #awaitResult(String, Duration)
+     */
+    public ComposeJobStatusResponse createAsyncAndAwait(ComposeRequest request) {
+        return Futures.await(asyncApi.createAsyncAndAwait(request));
+    }
+
+    /**
+     * Creates a compose job and waits for it to finish.
+     *
+     * @param request the compose request
+     * @param timeout the maximum time to wait for the job to finish
+     * @return the completed job, including its result
+     * @see #awaitResult(String, Duration)
+     */
+    public ComposeJobStatusResponse createAsyncAndAwait(ComposeRequest request, Duration timeout) {
+        return Futures.await(asyncApi.createAsyncAndAwait(request, timeout));
+    }
+
+    /**
+     * Waits for a compose job to reach a terminal status.
+     *
+     * <p>Returns the final job status whether it completed, failed or was cancelled.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return the terminal job status
+     * @throws JobTimeoutException if the job does not finish within the timeout
+     */
+    public ComposeJobStatusResponse awaitJob(String jobId, Duration timeout) {
+        return Futures.await(asyncApi.awaitJob(jobId, timeout));
+    }
+
+    /**
+     * Waits for a compose job to complete.
+     *
+     * <p>Job status is polled with adaptive backoff based on how long recent compose jobs took.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return the completed job, including its result
+     * @throws JobFailedException if the job fails or is cancelled
+     * @throws JobTimeoutException if the job does not finish within the timeout
+     */
+    public ComposeJobStatusResponse awaitResult(String jobId, Duration timeout) {
+        return Futures.await(asyncApi.awaitResult(jobId, timeout));
     }
 
     /**
@@ -77,19 +126,20 @@ public class ComposeApi {
      */
     public LayoutPreviewResponse preview(String layout, int imageCount, Integer canvasWidth,
                                           Integer canvasHeight, String aspectRatios) {
-        StringBuilder path = new StringBuilder("/v1/screenshots/compose/preview?");
-        path.append("layout=").append(layout);
-        path.append("&image_count=").append(imageCount);
-        if (canvasWidth != null) {
-            path.append("&canvas_width=").append(canvasWidth);
-        }
-        if (canvasHeight != null) {
-            path.append("&canvas_height=").append(canvasHeight);
-        }
-        if (aspectRatios != null) {
-            path.append("&aspect_ratios=").append(aspectRatios);
-        }
-        return httpClient.get(path.toString(), LayoutPreviewResponse.class);
+        return httpClient.get(previewPath(layout, imageCount, canvasWidth, canvasHeight, aspectRatios),
+                LayoutPreviewResponse.class);
+    }
+
+    /**
+     * Returns the shared tracker for compose jobs.
+     *
+     * <p>The tracker refreshes every tracked job with a single {@link #listJobs()} call every
+     * two seconds and fetches a job's full status once it reaches a terminal state.</p>
+     *
+     * @return the job tracker
+     */
+    public JobTracker<ComposeJobStatusResponse> jobTracker() {
+        return asyncApi.jobTracker();
     }
 
     /**
@@ -98,8 +148,7 @@ public class ComposeApi {
      * @return list of compose job summaries
      */
     public List<ComposeJobSummaryResponse> listJobs() {
-        return httpClient.get("/v1/screenshots/compose/jobs",
-            httpClient.getObjectMapper().getTypeFactory().constructCollectionType(List.class, ComposeJobSummaryResponse.class));
+        return httpClient.get("/v1/screenshots/compose/jobs", httpClient.listOf(ComposeJobSummaryResponse.class));
     }
 
     /**
@@ -111,4 +160,34 @@ public class ComposeApi {
     public ComposeJobStatusResponse getJob(String jobId) {
         return httpClient.get("/v1/screenshots/compose/jobs/" + jobId, ComposeJobStatusResponse.class);
     }
+
+    static ComposeRequest toAsyncRequest(ComposeRequest request) {
+        return ComposeRequest.builder()
+                .captures(request.getCaptures())
+                .url(request.getUrl())
+                .variants(request.getVariants())
+                .defaults(request.getDefaults())
+                .output(request.getOutput())
+                .async(true)
+                .webhookUrl(request.getWebhookUrl())
+                .webhookSecret(request.getWebhookSecret())
+                .build();
+    }
+
+    static String previewPath(String layout, int imageCount, Integer canvasWidth,
+                              Integer canvasHeight, String aspectRatios) {
+        StringBuilder path = new StringBuilder("/v1/screenshots/compose/preview?");
+        path.append("layout=").append(layout);
+        path.append("&image_count=").append(imageCount);
+        if (canvasWidth != null) {
+            path.append("&canvas_width=").append(canvasWidth);
+        }
+        if (canvasHeight != null) {
+            path.append("&canvas_height=").append(canvasHeight);
+        }
+        if (aspectRatios != null) {
+            path.append("&aspect_ratios=").append(aspectRatios);
+        }
+        return path.toString();
+    }
 }
@@ -0,0 +1,253 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.ConcurrencyLimitException;
+import com.allscreenshots.sdk.util.ConcurrencyLimitConfig;
+import com.allscreenshots.sdk.util.EndpointFamily;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on in-flight requests, adjusted with additive increase and multiplicative
+ * decrease (AIMD).
+ *
+ * <p>Every attempt to a limited endpoint holds a {@link Permit} from just before it is sent until
+ * its response headers arrive or it fails. Releasing the permit reports the outcome: overload
+ * signals (429, 5xx, network errors, or latency above the tolerance over the fastest recent
+ * response) shrink the limit, at most once per round of requests, and other responses grow it
+ * by {@code 1 / limit} while the limit is in use. The fastest response is forgotten every
+ * {@link #MIN_RTT_WINDOW_NANOS} so the baseline follows the server through the day.</p>
+ *
+ * <p>Waiters are served in arrival order. Sync callers block on their slot; async callers get a
+ * future, so dispatcher threads never wait.</p>
+ */
+final class ConcurrencyLimiter {
+
+    static final long MIN_RTT_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConcurrencyLimitConfig config;
+    private final HttpUrl apiBase;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long minRttSince;
+    private long lastDecrease;
+
+    ConcurrencyLimiter(ConcurrencyLimitConfig config, HttpUrl apiBase) {
+        this.config = config;
+        this.apiBase = apiBase;
+        this.maxWaitNanos = config.getMaxWait().toNanos();
+        this.limit = config.getInitialLimit();
+        this.minRttSince = System.nanoTime();
+        this.lastDecrease = minRttSince - 1;
+    }
+
+    boolean appliesTo(HttpUrl url) {
+        if (!Endpoints.isApiHost(url, apiBase)) {
+            return false;
+        }
+        EndpointFamily family = Endpoints.family(url, apiBase);
+        return family != null && config.getFamilies().contains(family);
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a slot, waiting up to the configured maximum.
+     *
+     * @throws ConcurrencyLimitException if no slot became free in time
+     */
+    Permit acquire() {
+        CompletableFuture<Permit> waiter;
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                return grant();
+            }
+            if (maxWaitNanos <= 0) {
+                throw rejected();
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            return waiter.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            abandon(waiter);
+            throw rejected();
+        } catch (InterruptedException e) {
+            abandon(waiter);
+            Thread.currentThread().interrupt();
+            throw new AllscreenshotsException("Interrupted while waiting for a concurrency slot", e);
+        } catch (ExecutionException e) {
+            throw new AllscreenshotsException("Failed to acquire a concurrency slot", e.getCause());
+        }
+    }
+
+    /**
+     * Takes a slot without blocking. The future fails with {@link ConcurrencyLimitException} if no
+     * slot becomes free in time.
+     */
+    CompletableFuture<Permit> acquireAsync() {
+        CompletableFuture<Permit> waiter;
+        lock.lock();
+        try {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                return CompletableFuture.completedFuture(grant());
+            }
+            if (maxWaitNanos <= 0) {
+                return CompletableFuture.failedFuture(rejected());
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        SharedScheduler.INSTANCE.schedule(() -> {
+            if (remove(waiter)) {
+                waiter.completeExceptionally(rejected());
+            }
+        }, maxWaitNanos, TimeUnit.NANOSECONDS);
+        return waiter;
+    }
+
+    /**
+     * Gives up on a waiter; if it was granted a slot in the meantime, the slot is handed back.
+     */
+    private void abandon(CompletableFuture<Permit> waiter) {
+        if (!remove(waiter)) {
+            waiter.join().cancel();
+        }
+    }
+
+    private boolean remove(CompletableFuture<Permit> waiter) {
+        lock.lock();
+        try {
+            return waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ConcurrencyLimitException rejected() {
+        int current = getLimit();
+        return new ConcurrencyLimitException("Concurrency limit of " + current + " requests reached", current);
+    }
+
+    // Called with the lock held
+    private Permit grant() {
+        inFlight++;
+        return new Permit(System.nanoTime(), inFlight);
+    }
+
+    private void release(Permit permit, boolean sample, boolean overloaded) {
+        List<CompletableFuture<Permit>> woken = null;
+        List<Permit> granted = null;
+        lock.lock();
+        try {
+            inFlight--;
+            if (sample) {
+                adjust(permit, overloaded);
+            }
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                if (woken == null) {
+                    woken = new ArrayList<>();
+                    granted = new ArrayList<>();
+                }
+                woken.add(waiters.poll());
+                granted.add(grant());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Completed outside the lock, since async waiters send their request from the callback
+        if (woken != null) {
+            for (int i = 0; i < woken.size(); i++) {
+                woken.get(i).complete(granted.get(i));
+            }
+        }
+    }
+
+    // Called with the lock held
+    private void adjust(Permit permit, boolean dropped) {
+        long now = System.nanoTime();
+        long rtt = now - permit.startNanos;
+        if (!dropped) {
+            if (now - minRttSince > MIN_RTT_WINDOW_NANOS) {
+                minRttNanos = rtt;
+                minRttSince = now;
+            } else {
+                minRttNanos = Math.min(minRttNanos, rtt);
+            }
+        }
+
+        boolean overloaded = dropped || rtt > minRttNanos * config.getLatencyTolerance();
+        if (overloaded) {
+            // Requests sent before the last decrease saw the old limit; let them not count again
+            if (permit.startNanos - lastDecrease > 0) {
+                limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+                lastDecrease = now;
+            }
+        } else if (permit.inFlightAtStart * 2 >= (int) limit) {
+            limit = Math.min(config.getMaxLimit(), limit + 1 / limit);
+        }
+    }
+
+    /**
+     * A slot held by one attempt.
+     */
+    final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Releases the slot after a response, or with status 0 after a network failure.
+         */
+        void release(int status) {
+            if (!released) {
+                released = true;
+                ConcurrencyLimiter.this.release(this, true, status == 0 || status == 429 || status >= 500);
+            }
+        }
+
+        /**
+         * Releases the slot of an attempt that was never sent.
+         */
+        void cancel() {
+            if (!released) {
+                released = true;
+                ConcurrencyLimiter.this.release(this, false, false);
+            }
+        }
+    }
+}
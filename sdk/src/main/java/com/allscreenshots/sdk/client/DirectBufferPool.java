@@ -0,0 +1,34 @@
+package com.allscreenshots.sdk.client;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Small pool of direct buffers used when moving response bodies into file channels.
+ *
+ * <p>Writing a heap buffer to a {@link java.nio.channels.FileChannel} makes the JDK copy it into a
+ * temporary direct buffer first, and allocating direct buffers per download is expensive. Reusing
+ * a bounded set of direct buffers avoids both.</p>
+ */
+final class DirectBufferPool {
+
+    static final DirectBufferPool INSTANCE = new DirectBufferPool(64 * 1024, 32);
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<ByteBuffer> buffers;
+
+    DirectBufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+}
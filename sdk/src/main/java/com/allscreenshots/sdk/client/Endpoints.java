@@ -0,0 +1,96 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.util.EndpointFamily;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps request URLs to endpoint templates such as {@code /v1/screenshots/bulk/{id}}, so IDs do
+ * not turn every request into its own metric or span name, and to {@link EndpointFamily}s. Any
+ * path the base URL carries, such as a gateway prefix, is stripped before either is worked out.
+ */
+final class Endpoints {
+
+    /**
+     * The endpoint reported for result URLs that live outside the API host.
+     */
+    static final String DOWNLOAD = "download";
+
+    private Endpoints() {
+    }
+
+    static String template(HttpUrl url, HttpUrl apiBase) {
+        if (!isApiHost(url, apiBase)) {
+            return DOWNLOAD;
+        }
+
+        List<String> segments = apiPath(url, apiBase);
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            template.append('/');
+            template.append(i > 0 && isCollection(segments.get(i - 1)) ? "{id}" : segment);
+        }
+        return template.length() > 0 ? template.toString() : "/";
+    }
+
+    static boolean isApiHost(HttpUrl url, HttpUrl apiBase) {
+        return apiBase == null || (url.host().equalsIgnoreCase(apiBase.host()) && url.port() == apiBase.port());
+    }
+
+    /**
+     * Returns the path segments of {@code url} below the base URL, such as {@code [v1, screenshots]}.
+     */
+    static List<String> apiPath(HttpUrl url, HttpUrl apiBase) {
+        List<String> segments = nonEmpty(url.pathSegments());
+        List<String> prefix = apiBase != null ? nonEmpty(apiBase.pathSegments()) : List.of();
+        if (segments.size() < prefix.size() || !segments.subList(0, prefix.size()).equals(prefix)) {
+            return segments;
+        }
+        return segments.subList(prefix.size(), segments.size());
+    }
+
+    /**
+     * Returns the family of an API path, or {@code null} for paths outside the known families.
+     */
+    static EndpointFamily family(HttpUrl url, HttpUrl apiBase) {
+        List<String> segments = apiPath(url, apiBase);
+        String first = segments.size() > 1 ? segments.get(1) : "";
+        if ("schedules".equals(first)) {
+            return EndpointFamily.SCHEDULES;
+        }
+        if ("usage".equals(first)) {
+            return EndpointFamily.USAGE;
+        }
+        if (!"screenshots".equals(first)) {
+            return null;
+        }
+        String second = segments.size() > 2 ? segments.get(2) : "";
+        switch (second) {
+            case "jobs":
+                return EndpointFamily.JOBS;
+            case "bulk":
+                return EndpointFamily.BULK;
+            case "compose":
+                return EndpointFamily.COMPOSE;
+            default:
+                return EndpointFamily.CAPTURE;
+        }
+    }
+
+    private static List<String> nonEmpty(List<String> segments) {
+        List<String> result = new ArrayList<>(segments.size());
+        for (String segment : segments) {
+            if (!segment.isEmpty()) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isCollection(String segment) {
+        return "jobs".equals(segment) || "bulk".equals(segment) || "schedules".equals(segment);
+    }
+}
@@ -0,0 +1,69 @@
+package com.allscreenshots.sdk.client;
+
+/**
+ * Count-min sketch of how often keys were requested recently, for TinyLFU admission.
+ *
+ * <p>Four rows of counters capped at 15, each row indexed by a differently seeded hash; the
+ * estimate is the smallest of a key's four counters. After {@code 10 * width} increments every
+ * counter is halved, so the sketch follows changes in popularity instead of remembering all of
+ * history. Not thread-safe; {@link ResultCache} calls it with its lock held.</p>
+ */
+final class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final byte[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     */
+    FrequencySketch(int width) {
+        int size = Integer.highestOneBit(Math.max(16, width - 1)) << 1;
+        this.counters = new byte[ROWS][size];
+        this.mask = size - 1;
+        this.sampleSize = 10 * size;
+    }
+
+    int frequency(String key) {
+        int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counters[row][index(hash, row)]);
+        }
+        return frequency;
+    }
+
+    void increment(String key) {
+        int hash = key.hashCode();
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            int index = index(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % ROWS];
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,96 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Helpers for bridging the async internals to the blocking API.
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * Waits for a future and rethrows its failure as the original SDK exception.
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AllscreenshotsException("Interrupted while waiting for response", e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Unwraps {@link CompletionException}s added by {@link CompletableFuture} composition.
+     */
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Like {@code first.thenCompose(next)}, except that cancelling the returned future also cancels
+     * {@code first} and the future returned by {@code next}, so work hidden behind the composition
+     * does not keep running for nobody.
+     */
+    static <T, U> CompletableFuture<U> composeCancellable(CompletableFuture<T> first,
+                                                         Function<? super T, CompletableFuture<U>> next) {
+        CompletableFuture<U> result = new CompletableFuture<>();
+        cancelWith(result, first);
+        first.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            CompletableFuture<U> second;
+            try {
+                second = next.apply(value);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            cancelWith(result, second);
+            second.whenComplete((secondValue, secondError) -> {
+                if (secondError != null) {
+                    result.completeExceptionally(unwrap(secondError));
+                } else {
+                    result.complete(secondValue);
+                }
+            });
+        });
+        return result;
+    }
+
+    private static void cancelWith(CompletableFuture<?> outer, CompletableFuture<?> inner) {
+        outer.whenComplete((value, error) -> {
+            if (outer.isCancelled()) {
+                inner.cancel(true);
+            }
+        });
+    }
+
+    private static RuntimeException propagate(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new AllscreenshotsException(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,270 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.util.EndpointFamily;
+import com.allscreenshots.sdk.util.HedgingConfig;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends a second copy of blocking requests that are slower than usual and keeps whichever copy
+ * answers first.
+ *
+ * <p>Both copies run on the OkHttp dispatcher while the caller waits, and the loser is cancelled.
+ * They count as one attempt: the caller's rate-limit, concurrency and circuit breaker permits
+ * cover both. The hedge delay is the configured percentile of the time to response headers over
+ * the last {@link #SAMPLES} winning copies of each endpoint family.</p>
+ */
+final class Hedger {
+
+    private static final int SAMPLES = 128;
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final double MAX_BUDGET = 10;
+
+    private final HedgingConfig config;
+    private final HttpUrl apiBase;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final Map<EndpointFamily, LatencyWindow> latencies = new EnumMap<>(EndpointFamily.class);
+    private final ReentrantLock budgetLock = new ReentrantLock();
+    private double budget;
+
+    Hedger(HedgingConfig config, HttpUrl apiBase) {
+        this.config = config;
+        this.apiBase = apiBase;
+        this.initialDelayNanos = config.getInitialDelay().toNanos();
+        this.minDelayNanos = config.getMinDelay().toNanos();
+        for (EndpointFamily family : EndpointFamily.values()) {
+            latencies.put(family, new LatencyWindow());
+        }
+    }
+
+    boolean hedgesCaptures() {
+        return config.isHedgeCaptures();
+    }
+
+    boolean appliesTo(Request request) {
+        HttpUrl url = request.url();
+        if (!Endpoints.isApiHost(url, apiBase) || Endpoints.family(url, apiBase) == null) {
+            return false;
+        }
+        if ("GET".equals(request.method())) {
+            return true;
+        }
+        // Only blocking captures; hedging /v1/screenshots/async would start duplicate jobs
+        return config.isHedgeCaptures() && "POST".equals(request.method())
+                && Endpoints.family(url, apiBase) == EndpointFamily.CAPTURE
+                && Endpoints.apiPath(url, apiBase).size() == 2;
+    }
+
+    /**
+     * Executes {@code request}, hedging it if no response arrived within the hedge delay and the
+     * budget allows.
+     */
+    Response execute(OkHttpClient httpClient, Request request) throws IOException {
+        LatencyWindow window = latencies.get(Endpoints.family(request.url(), apiBase));
+        deposit();
+        Race race = new Race(window);
+        race.start(httpClient.newCall(request));
+        Response response = race.await(window.hedgeDelay());
+        if (response == null && withdraw()) {
+            race.start(httpClient.newCall(request));
+        }
+        return response != null ? response : race.await(Long.MAX_VALUE);
+    }
+
+    private void deposit() {
+        budgetLock.lock();
+        try {
+            budget = Math.min(MAX_BUDGET, budget + config.getBudgetRatio());
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    private boolean withdraw() {
+        budgetLock.lock();
+        try {
+            if (budget < 1) {
+                return false;
+            }
+            budget--;
+            return true;
+        } finally {
+            budgetLock.unlock();
+        }
+    }
+
+    /**
+     * Recent latencies of one endpoint family, with the hedge delay recomputed every
+     * {@link #RECOMPUTE_EVERY} samples rather than on every call.
+     */
+    private final class LatencyWindow {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] samples = new long[SAMPLES];
+        private long count;
+        private long delayNanos = initialDelayNanos;
+
+        long hedgeDelay() {
+            lock.lock();
+            try {
+                return delayNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void record(long nanos) {
+            lock.lock();
+            try {
+                samples[(int) (count % SAMPLES)] = nanos;
+                count++;
+                if (count >= config.getMinSamples() && count % RECOMPUTE_EVERY == 0) {
+                    long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, SAMPLES));
+                    Arrays.sort(sorted);
+                    int index = (int) Math.ceil(config.getPercentile() * sorted.length) - 1;
+                    delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The copies of one request. The first response wins; failures only end the race once no
+     * copy is left running.
+     */
+    private static final class Race {
+
+        private final LatencyWindow window;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition done = lock.newCondition();
+        private final List<Call> calls = new ArrayList<>(2);
+        private int running;
+        private Response winner;
+        private IOException failure;
+
+        Race(LatencyWindow window) {
+            this.window = window;
+        }
+
+        void start(Call call) {
+            lock.lock();
+            try {
+                if (isDone()) {
+                    return;
+                }
+                calls.add(call);
+                running++;
+            } finally {
+                lock.unlock();
+            }
+
+            long startNanos = System.nanoTime();
+            call.enqueue(new Callback() {
+                @Override
+                public void onResponse(Call call, Response response) {
+                    long elapsed = System.nanoTime() - startNanos;
+                    if (finish(call, response, null)) {
+                        window.record(elapsed);
+                    } else {
+                        response.close();
+                    }
+                }
+
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    finish(call, null, e);
+                }
+            });
+        }
+
+        /**
+         * Waits for the race to end, returning null if it did not within {@code nanos}.
+         */
+        Response await(long nanos) throws IOException {
+            List<Call> abandoned;
+            lock.lock();
+            try {
+                long remaining = nanos;
+                while (!isDone()) {
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    remaining = done.awaitNanos(remaining);
+                }
+                if (winner != null) {
+                    return winner;
+                }
+                throw failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // The race may have ended just as the interrupt came in; a winner must still be
+                // handed over, or its connection would never be released
+                if (winner != null) {
+                    return winner;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                // Ends the race, so a response still arriving is closed rather than leaked
+                failure = new InterruptedIOException("Interrupted while waiting for a response");
+                abandoned = new ArrayList<>(calls);
+            } finally {
+                lock.unlock();
+            }
+
+            abandoned.forEach(Call::cancel);
+            throw failure;
+        }
+
+        // Returns whether the response won
+        private boolean finish(Call call, Response response, IOException e) {
+            List<Call> losers = null;
+            lock.lock();
+            try {
+                running--;
+                if (isDone()) {
+                    return false;
+                }
+                if (response != null) {
+                    winner = response;
+                    losers = new ArrayList<>(calls);
+                    losers.remove(call);
+                } else if (running == 0) {
+                    failure = e;
+                } else {
+                    return false;
+                }
+                done.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            if (losers != null) {
+                losers.forEach(Call::cancel);
+            }
+            return response != null;
+        }
+
+        // Called with the lock held
+        private boolean isDone() {
+            return winner != null || failure != null;
+        }
+    }
+}
@@ -1,19 +1,50 @@
 package com.allscreenshots.sdk.client;
 
+import com.allscreenshots.sdk.cache.CacheMode;
+import com.allscreenshots.sdk.cache.CacheStats;
 import com.allscreenshots.sdk.exception.*;
 import com.allscreenshots.sdk.model.ErrorResponse;
+import com.allscreenshots.sdk.metrics.ClientStats;
+import com.allscreenshots.sdk.metrics.RetryCause;
+import com.allscreenshots.sdk.metrics.SdkMetrics;
+import com.allscreenshots.sdk.tracing.SdkTracing;
+import com.allscreenshots.sdk.model.FileCaptureResult;
 import com.allscreenshots.sdk.util.RetryConfig;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okio.Buffer;
+import okio.BufferedSource;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Internal HTTP client for making API requests.
@@ -23,54 +54,135 @@ class HttpClient {
     private static final String DEFAULT_BASE_URL = "https://api.allscreenshots.com";
     private static final String API_KEY_HEADER = "X-API-Key";
     private static final String USER_AGENT = "allscreenshots-sdk-java/1.0.0";
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final MediaType JSON = JsonRequestBody.JSON;
 
     private final OkHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec codec;
     private final String baseUrl;
     private final String apiKey;
-    private final RetryConfig retryConfig;
+    private final RetryPolicy retryPolicy;
+    private final boolean useVirtualThreads;
+    private final SdkMetrics metrics;
+    private final SdkTracing tracing;
+    private final RateLimiter rateLimiter;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Hedger hedger;
+    private final SingleFlight<byte[]> binaryFlights;
+    private final ResultCache resultCache;
+    private final ClientStats clientStats;
+    private final HttpUrl apiBase;
 
-    HttpClient(String baseUrl, String apiKey, Duration connectTimeout, Duration readTimeout,
-               Duration writeTimeout, RetryConfig retryConfig, boolean enableLogging) {
-        this.baseUrl = baseUrl != null ? baseUrl : DEFAULT_BASE_URL;
+    HttpClient(AllscreenshotsClient.Builder config, String apiKey) {
+        this.baseUrl = config.baseUrl != null ? config.baseUrl : DEFAULT_BASE_URL;
         this.apiKey = apiKey;
-        this.retryConfig = retryConfig != null ? retryConfig : RetryConfig.defaultConfig();
+        this.retryPolicy = new RetryPolicy(config.retryConfig != null ? config.retryConfig : RetryConfig.defaultConfig());
+        this.useVirtualThreads = config.useVirtualThreads && VirtualThreads.isSupported();
+        this.metrics = config.metrics != null ? config.metrics : SdkMetrics.NOOP;
+        this.tracing = config.tracing != null ? config.tracing : SdkTracing.NOOP;
+        this.apiBase = HttpUrl.parse(baseUrl);
+        this.rateLimiter = config.rateLimitConfig != null ? new RateLimiter(config.rateLimitConfig, apiBase) : null;
+        this.concurrencyLimiter = config.concurrencyLimitConfig != null
+                ? new ConcurrencyLimiter(config.concurrencyLimitConfig, apiBase)
+                : null;
+        this.circuitBreaker = config.circuitBreakerConfig != null
+                ? new CircuitBreaker(config.circuitBreakerConfig, apiBase, metrics)
+                : null;
+        this.hedger = config.hedgingConfig != null ? new Hedger(config.hedgingConfig, apiBase) : null;
+        this.binaryFlights = config.coalesceCaptures ? new SingleFlight<>() : null;
+        this.resultCache = config.resultCacheConfig != null ? new ResultCache(config.resultCacheConfig) : null;
 
         OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder()
-                .connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .writeTimeout(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                .connectTimeout(config.connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(config.readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(config.writeTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .connectionPool(config.connectionPool != null ? config.connectionPool : newConnectionPool(config))
+                .dispatcher(config.dispatcher != null ? config.dispatcher : newDispatcher(config));
 
-        if (enableLogging) {
+        if (config.protocols != null) {
+            clientBuilder.protocols(config.protocols);
+        }
+
+        // Added before logging so that logged requests show the injected trace headers
+        if (tracing != SdkTracing.NOOP) {
+            clientBuilder.addInterceptor(new TracingInterceptor());
+        }
+
+        if (config.enableLogging) {
             HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
             loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
             clientBuilder.addInterceptor(loggingInterceptor);
         }
 
+        // Without metrics no listener is installed, so disabled metrics cost nothing per call
+        AtomicInteger inFlight = new AtomicInteger();
+        if (metrics != SdkMetrics.NOOP) {
+            clientBuilder.eventListenerFactory(MetricsEventListener.factory(metrics, apiBase, inFlight));
+        }
+
         this.httpClient = clientBuilder.build();
+        // Held here because metrics may reference the stats only weakly, to not outlive the client
+        this.clientStats = metrics != SdkMetrics.NOOP ? new OkHttpClientStats(httpClient, inFlight) : null;
+        if (clientStats != null) {
+            metrics.bindClientStats(clientStats);
+        }
+
+        this.codec = new JsonCodec(newObjectMapper(config));
+    }
 
-        this.objectMapper = new ObjectMapper()
+    private static ObjectMapper newObjectMapper(AllscreenshotsClient.Builder config) {
+        ObjectMapper objectMapper = new ObjectMapper()
                 .registerModule(new JavaTimeModule())
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        if (config.fastJsonBinding) {
+            objectMapper.registerModule(JacksonModules.newAccessorModule());
+        }
+        return objectMapper;
     }
 
-    ObjectMapper getObjectMapper() {
-        return objectMapper;
+    private static ConnectionPool newConnectionPool(AllscreenshotsClient.Builder config) {
+        return new ConnectionPool(config.maxIdleConnections, config.keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Dispatcher newDispatcher(AllscreenshotsClient.Builder config) {
+        ExecutorService executor = config.useVirtualThreads ? VirtualThreads.newVirtualThreadPerTaskExecutor() : null;
+        Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+        dispatcher.setMaxRequests(config.maxRequests);
+        dispatcher.setMaxRequestsPerHost(config.maxRequestsPerHost);
+        return dispatcher;
+    }
+
+    boolean isUsingVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    ConnectionPool getConnectionPool() {
+        return httpClient.connectionPool();
+    }
+
+    Dispatcher getDispatcher() {
+        return httpClient.dispatcher();
+    }
+
+    /**
+     * Returns the cached {@code List<elementType>} type for list endpoints.
+     */
+    JavaType listOf(Class<?> elementType) {
+        return codec.listOf(elementType);
     }
 
     <T> T get(String path, Class<T> responseType) {
         Request request = buildRequest(path)
                 .get()
                 .build();
-        return executeWithRetry(request, responseType);
+        return call(request, r -> execute(r, responseType));
     }
 
     <T> T get(String path, JavaType responseType) {
         Request request = buildRequest(path)
                 .get()
                 .build();
-        return executeWithRetry(request, responseType);
+        return call(request, r -> execute(r, responseType));
     }
 
     <T> T post(String path, Object body, Class<T> responseType) {
@@ -78,7 +190,7 @@ class HttpClient {
         Request request = buildRequest(path)
                 .post(requestBody)
                 .build();
-        return executeWithRetry(request, responseType);
+        return call(request, r -> execute(r, responseType));
     }
 
     byte[] postForBinary(String path, Object body) {
@@ -86,7 +198,41 @@ class HttpClient {
         Request request = buildRequest(path)
                 .post(requestBody)
                 .build();
-        return executeForBinaryWithRetry(request);
+        return call(request, this::executeForBinary);
+    }
+
+    /**
+     * Like {@link #postForBinary}, but when coalescing is enabled, concurrent calls with equal
+     * bodies share one request and one result array, and when the result cache is enabled, equal
+     * bodies are served from it according to {@code mode}. Properties in {@code ignored} do not
+     * tell bodies apart.
+     */
+    byte[] postForBinaryShared(String path, Object body, Set<String> ignored, CacheMode mode) {
+        boolean caching = caches(mode);
+        if (binaryFlights == null && !caching) {
+            return postForBinary(path, body);
+        }
+        String key = path + ' ' + codec.canonicalHash(body, ignored);
+        byte[] cached = lookup(key, mode);
+        if (cached != null) {
+            return cached;
+        }
+        Supplier<byte[]> load = () -> store(key, postForBinary(path, body), caching);
+        return binaryFlights != null ? binaryFlights.execute(key, load) : load.get();
+    }
+
+    /**
+     * Like {@link #getBinary}, but served from the result cache according to {@code mode} when it
+     * is enabled.
+     */
+    byte[] getBinaryCached(String path, CacheMode mode) {
+        boolean caching = caches(mode);
+        if (!caching) {
+            return getBinary(path);
+        }
+        String key = "GET " + path;
+        byte[] cached = lookup(key, mode);
+        return cached != null ? cached : store(key, getBinary(path), true);
     }
 
     <T> T put(String path, Object body, Class<T> responseType) {
@@ -94,21 +240,192 @@ class HttpClient {
         Request request = buildRequest(path)
                 .put(requestBody)
                 .build();
-        return executeWithRetry(request, responseType);
+        return call(request, r -> execute(r, responseType));
     }
 
     void delete(String path) {
         Request request = buildRequest(path)
                 .delete()
                 .build();
-        executeWithRetry(request, Void.class);
+        call(request, r -> execute(r, Void.class));
     }
 
     byte[] getBinary(String path) {
         Request request = buildRequest(path)
                 .get()
                 .build();
-        return executeForBinaryWithRetry(request);
+        return call(request, this::executeForBinary);
+    }
+
+    long postForStream(String path, Object body, OutputStream out) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .post(requestBody)
+                .build();
+        return executeForStreamWithRetry(request, out);
+    }
+
+    InputStream postForInputStream(String path, Object body) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .post(requestBody)
+                .build();
+        return call(request, this::openStream);
+    }
+
+    long getStream(String path, OutputStream out) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return executeForStreamWithRetry(request, out);
+    }
+
+    InputStream getInputStream(String path) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return call(request, this::openStream);
+    }
+
+    FileCaptureResult postForFile(String path, Object body, Path target, OpenOption... options) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .post(requestBody)
+                .build();
+        return executeForFileWithRetry(request, target, options);
+    }
+
+    FileCaptureResult getFile(String path, Path target, OpenOption... options) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return executeForFileWithRetry(request, target, options);
+    }
+
+    /**
+     * Downloads a result URL into {@code target}, resuming from a {@code .part} file left by an
+     * earlier attempt. Relative URLs are resolved against the API base URL; the API key is only
+     * sent to the API host. The calls join {@code group}, so {@link CallGroup#cancel()} can abort
+     * the transfer.
+     */
+    FileCaptureResult download(String url, Path target, Long expectedSize, boolean resume, CallGroup group) {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        return retrying(buildDownloadRequest(url).build(),
+                request -> executeDownload(url, target, partial, expectedSize, resume, group), e -> true);
+    }
+
+
+    <T> CompletableFuture<T> getAsync(String path, Class<T> responseType) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return executeAsyncWithRetry(request, response -> readJson(response, responseType));
+    }
+
+    <T> CompletableFuture<T> getAsync(String path, JavaType responseType) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return executeAsyncWithRetry(request, response -> readJson(response, responseType));
+    }
+
+    <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> responseType) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .post(requestBody)
+                .build();
+        return executeAsyncWithRetry(request, response -> readJson(response, responseType));
+    }
+
+    CompletableFuture<byte[]> postForBinaryAsync(String path, Object body) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .post(requestBody)
+                .build();
+        return executeAsyncWithRetry(request, this::readBinary);
+    }
+
+    /**
+     * Non-blocking form of {@link #postForBinaryShared}, sharing calls and cached results with it.
+     */
+    CompletableFuture<byte[]> postForBinaryAsyncShared(String path, Object body, Set<String> ignored, CacheMode mode) {
+        boolean caching = caches(mode);
+        if (binaryFlights == null && !caching) {
+            return postForBinaryAsync(path, body);
+        }
+        String key = path + ' ' + codec.canonicalHash(body, ignored);
+        byte[] cached = lookup(key, mode);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        Supplier<CompletableFuture<byte[]>> load = () -> caching
+                ? storing(key, postForBinaryAsync(path, body))
+                : postForBinaryAsync(path, body);
+        return binaryFlights != null ? binaryFlights.executeAsync(key, load) : load.get();
+    }
+
+    <T> CompletableFuture<T> putAsync(String path, Object body, Class<T> responseType) {
+        RequestBody requestBody = createJsonBody(body);
+        Request request = buildRequest(path)
+                .put(requestBody)
+                .build();
+        return executeAsyncWithRetry(request, response -> readJson(response, responseType));
+    }
+
+    CompletableFuture<Void> deleteAsync(String path) {
+        Request request = buildRequest(path)
+                .delete()
+                .build();
+        return executeAsyncWithRetry(request, response -> null);
+    }
+
+    CompletableFuture<byte[]> getBinaryAsync(String path) {
+        Request request = buildRequest(path)
+                .get()
+                .build();
+        return executeAsyncWithRetry(request, this::readBinary);
+    }
+
+    /**
+     * Non-blocking form of {@link #getBinaryCached}, sharing cached results with it.
+     */
+    CompletableFuture<byte[]> getBinaryAsyncCached(String path, CacheMode mode) {
+        if (!caches(mode)) {
+            return getBinaryAsync(path);
+        }
+        String key = "GET " + path;
+        byte[] cached = lookup(key, mode);
+        return cached != null ? CompletableFuture.completedFuture(cached) : storing(key, getBinaryAsync(path));
+    }
+
+    CacheStats resultCacheStats() {
+        return resultCache != null ? resultCache.stats() : CacheStats.EMPTY;
+    }
+
+    private boolean caches(CacheMode mode) {
+        return resultCache != null && mode != CacheMode.BYPASS;
+    }
+
+    private byte[] lookup(String key, CacheMode mode) {
+        return resultCache != null && mode == CacheMode.USE ? resultCache.get(key) : null;
+    }
+
+    private byte[] store(String key, byte[] result, boolean caching) {
+        if (caching) {
+            resultCache.put(key, result);
+        }
+        return result;
+    }
+
+    // Cancelling the returned future still cancels the call
+    private CompletableFuture<byte[]> storing(String key, CompletableFuture<byte[]> call) {
+        CompletableFuture<byte[]> stored = call.thenApply(result -> store(key, result, true));
+        stored.whenComplete((result, error) -> {
+            if (stored.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return stored;
     }
 
     private Request.Builder buildRequest(String path) {
@@ -128,143 +445,513 @@ class HttpClient {
         if (body == null) {
             return RequestBody.create("", JSON);
         }
-        try {
-            String json = objectMapper.writeValueAsString(body);
-            return RequestBody.create(json, JSON);
-        } catch (JsonProcessingException e) {
-            throw new AllscreenshotsException("Failed to serialize request body", e);
+        // Retries and hedges resend the same Request, so keep the serialized bytes only when they can happen
+        return retryPolicy.isRetryEnabled() || (hedger != null && hedger.hedgesCaptures())
+                ? JsonRequestBody.replayable(codec.writer(body.getClass()), body)
+                : JsonRequestBody.streaming(codec.writer(body.getClass()), body);
+    }
+
+    private static AllscreenshotsException networkError(IOException e) {
+        if (e instanceof JsonRequestBody.SerializationException) {
+            return new AllscreenshotsException(e.getMessage(), e.getCause());
         }
+        return new NetworkException("Network error: " + e.getMessage(), e);
     }
 
-    private <T> T executeWithRetry(Request request, Class<T> responseType) {
-        AllscreenshotsException lastException = null;
+    /**
+     * Runs {@code attempt} until it succeeds or the retry policy gives up, inside one
+     * {@link com.allscreenshots.sdk.tracing.CallTrace} when tracing is enabled.
+     */
+    private <T> T call(Request request, Function<Request, T> attempt) {
+        return call(request, attempt, e -> true);
+    }
 
-        for (int attempt = 0; attempt <= retryConfig.getMaxRetries(); attempt++) {
+    /**
+     * Like {@link #call(Request, Function)}, where {@code retryable} can veto retrying failures
+     * that the retry policy would retry.
+     */
+    private <T> T call(Request request, Function<Request, T> attempt, Predicate<AllscreenshotsException> retryable) {
+        if (tracing == SdkTracing.NOOP) {
+            return retrying(request, attempt, retryable);
+        }
+        // The request passed on carries a TracedCall tag for TracingInterceptor
+        TracedCall traced = new TracedCall(tracing.startCall(request.method(), Endpoints.template(request.url(), apiBase)));
+        T result;
+        try {
+            result = retrying(request.newBuilder().tag(TracedCall.class, traced).build(), attempt, retryable);
+        } catch (RuntimeException e) {
+            traced.end(null, e);
+            throw e;
+        }
+        traced.end(result, null);
+        return result;
+    }
+
+    private <T> T retrying(Request request, Function<Request, T> attempt, Predicate<AllscreenshotsException> retryable) {
+        RetryPolicy.State state = retryPolicy.newCall();
+        while (true) {
             try {
-                return execute(request, responseType);
-            } catch (RateLimitException | NetworkException e) {
-                lastException = e;
-                if (attempt < retryConfig.getMaxRetries()) {
-                    sleep(retryConfig.getDelayForAttempt(attempt));
-                }
-            } catch (ApiException e) {
-                // Only retry on 5xx errors
-                if (e.getStatusCode() != null && e.getStatusCode() >= 500) {
-                    lastException = e;
-                    if (attempt < retryConfig.getMaxRetries()) {
-                        sleep(retryConfig.getDelayForAttempt(attempt));
-                    }
-                } else {
+                return attempt.apply(request);
+            } catch (AllscreenshotsException e) {
+                long delay = retryable.test(e) ? retryDelay(request, e, state) : RetryPolicy.NO_RETRY;
+                if (delay == RetryPolicy.NO_RETRY) {
                     throw e;
                 }
+                sleep(delay);
             }
         }
+    }
 
-        throw lastException != null ? lastException : new AllscreenshotsException("Request failed after retries");
+    /**
+     * Streams the response body into {@code out}. Failures are only retried while nothing has
+     * been written yet, since the caller's stream cannot be rewound.
+     */
+    private long executeForStreamWithRetry(Request request, OutputStream out) {
+        StreamCopy copy = new StreamCopy(out);
+        return call(request, r -> execute(r, copy), e -> !copy.isStarted());
     }
 
-    private <T> T executeWithRetry(Request request, JavaType responseType) {
-        AllscreenshotsException lastException = null;
+    /**
+     * Downloads the response body into a temporary file next to {@code target} and renames it
+     * into place once complete, so readers never observe a partial image. Since the temporary
+     * file is private to each attempt, failures are retried even after bytes have arrived.
+     */
+    private FileCaptureResult executeForFileWithRetry(Request request, Path target, OpenOption... options) {
+        Set<OpenOption> openOptions = Set.of(options);
+        if (openOptions.contains(StandardOpenOption.APPEND)) {
+            throw new IllegalArgumentException("APPEND is not supported when capturing to a file");
+        }
+        if (openOptions.contains(StandardOpenOption.CREATE_NEW) && Files.exists(target)) {
+            throw new AllscreenshotsException("File already exists: " + target);
+        }
+
+        return call(request, r -> executeForFile(r, target, openOptions));
+    }
+
+    private FileCaptureResult executeForFile(Request request, Path target, Set<OpenOption> options) {
+        long startNanos = System.nanoTime();
+        Path directory = target.toAbsolutePath().getParent();
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile(directory, "." + target.getFileName() + ".", ".part");
+        } catch (IOException e) {
+            throw new AllscreenshotsException("Failed to create temporary file in " + directory, e);
+        }
+
+        try {
+            boolean sync = options.contains(StandardOpenOption.SYNC) || options.contains(StandardOpenOption.DSYNC);
+            FileTransfer transfer = new FileTransfer(tempFile, sync);
+            long bytesWritten = execute(request, transfer);
+            moveIntoPlace(tempFile, target, options.contains(StandardOpenOption.CREATE_NEW));
+
+            long firstByteNanos = transfer.getFirstByteNanos() != 0 ? transfer.getFirstByteNanos() : System.nanoTime();
+            return new FileCaptureResult(target, bytesWritten,
+                    Duration.ofNanos(firstByteNanos - startNanos),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
 
-        for (int attempt = 0; attempt <= retryConfig.getMaxRetries(); attempt++) {
+    private static void moveIntoPlace(Path source, Path target, boolean createNew) {
+        try {
+            if (createNew) {
+                Files.move(source, target);
+                return;
+            }
             try {
-                return execute(request, responseType);
-            } catch (RateLimitException | NetworkException e) {
-                lastException = e;
-                if (attempt < retryConfig.getMaxRetries()) {
-                    sleep(retryConfig.getDelayForAttempt(attempt));
-                }
-            } catch (ApiException e) {
-                if (e.getStatusCode() != null && e.getStatusCode() >= 500) {
-                    lastException = e;
-                    if (attempt < retryConfig.getMaxRetries()) {
-                        sleep(retryConfig.getDelayForAttempt(attempt));
-                    }
-                } else {
-                    throw e;
-                }
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
             }
+        } catch (IOException e) {
+            throw new AllscreenshotsException("Failed to move downloaded file to " + target, e);
         }
-
-        throw lastException != null ? lastException : new AllscreenshotsException("Request failed after retries");
     }
 
-    private byte[] executeForBinaryWithRetry(Request request) {
-        AllscreenshotsException lastException = null;
+    private FileCaptureResult executeDownload(String url, Path target, Path partial, Long expectedSize,
+                                              boolean resume, CallGroup group) {
+        long startNanos = System.nanoTime();
+        long existing = resume ? sizeOf(partial) : 0;
+        if (expectedSize != null && existing > expectedSize) {
+            deleteQuietly(partial);
+            existing = 0;
+        }
 
-        for (int attempt = 0; attempt <= retryConfig.getMaxRetries(); attempt++) {
+        FileTransfer transfer = new FileTransfer(partial, false, existing);
+        if (expectedSize == null || existing < expectedSize) {
+            Request.Builder builder = buildDownloadRequest(url).get().tag(CallGroup.class, group);
+            if (existing > 0) {
+                builder.header("Range", "bytes=" + existing + "-");
+            }
             try {
-                return executeForBinary(request);
-            } catch (RateLimitException | NetworkException e) {
-                lastException = e;
-                if (attempt < retryConfig.getMaxRetries()) {
-                    sleep(retryConfig.getDelayForAttempt(attempt));
-                }
+                execute(builder.build(), transfer);
             } catch (ApiException e) {
-                if (e.getStatusCode() != null && e.getStatusCode() >= 500) {
-                    lastException = e;
-                    if (attempt < retryConfig.getMaxRetries()) {
-                        sleep(retryConfig.getDelayForAttempt(attempt));
-                    }
-                } else {
-                    throw e;
+                if (existing > 0 && e.getStatusCode() == 416) {
+                    // The partial file no longer matches the remote file; start over
+                    deleteQuietly(partial);
+                    return executeDownload(url, target, partial, expectedSize, false, group);
                 }
+                throw e;
             }
         }
 
-        throw lastException != null ? lastException : new AllscreenshotsException("Request failed after retries");
+        long size = sizeOf(partial);
+        if (expectedSize != null && size < expectedSize) {
+            // Keep the partial file so the retry resumes where this attempt stopped
+            throw new NetworkException("Incomplete download of " + url + ": " + size + " of " + expectedSize + " bytes");
+        }
+        if (expectedSize != null && size > expectedSize) {
+            deleteQuietly(partial);
+            throw new AllscreenshotsException("Downloaded " + size + " bytes from " + url
+                    + " but expected " + expectedSize);
+        }
+
+        moveIntoPlace(partial, target, false);
+        long firstByteNanos = transfer.getFirstByteNanos() != 0 ? transfer.getFirstByteNanos() : System.nanoTime();
+        return new FileCaptureResult(target, size,
+                Duration.ofNanos(firstByteNanos - startNanos),
+                Duration.ofNanos(System.nanoTime() - startNanos));
     }
 
-    private <T> T execute(Request request, Class<T> responseType) {
-        try (Response response = httpClient.newCall(request).execute()) {
-            handleErrors(response);
+    private Request.Builder buildDownloadRequest(String url) {
+        if (!url.startsWith("http://") && !url.startsWith("https://")) {
+            return buildRequest(url);
+        }
 
-            if (responseType == Void.class || response.body() == null) {
-                return null;
-            }
+        Request.Builder builder = new Request.Builder()
+                .url(url)
+                .header("User-Agent", USER_AGENT);
 
-            String responseBody = response.body().string();
-            if (responseBody.isEmpty()) {
-                return null;
-            }
+        HttpUrl api = HttpUrl.parse(baseUrl);
+        HttpUrl download = HttpUrl.parse(url);
+        boolean sameHost = api != null && download != null
+                && api.host().equalsIgnoreCase(download.host()) && api.port() == download.port();
+        if (sameHost && apiKey != null && !apiKey.isBlank()) {
+            builder.header(API_KEY_HEADER, apiKey);
+        }
 
-            return objectMapper.readValue(responseBody, responseType);
+        return builder;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
         } catch (IOException e) {
-            throw new NetworkException("Network error: " + e.getMessage(), e);
+            throw new AllscreenshotsException("Failed to read size of " + file, e);
         }
     }
 
-    private <T> T execute(Request request, JavaType responseType) {
-        try (Response response = httpClient.newCall(request).execute()) {
-            handleErrors(response);
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Best effort cleanup of a partial download
+        }
+    }
 
+    /**
+     * Opens the response body as a stream. Retries cover everything up to a successful status
+     * line; once the stream is handed out the caller owns it and must close it.
+     */
+    private InputStream openStream(Request request) {
+        Response response = null;
+        try {
+            response = send(request);
+            handleErrors(response);
             if (response.body() == null) {
-                return null;
-            }
-
-            String responseBody = response.body().string();
-            if (responseBody.isEmpty()) {
-                return null;
+                throw new ApiException("Empty response body", response.code());
             }
-
-            return objectMapper.readValue(responseBody, responseType);
+            return response.body().byteStream();
         } catch (IOException e) {
-            throw new NetworkException("Network error: " + e.getMessage(), e);
+            closeQuietly(response);
+            throw networkError(e);
+        } catch (RuntimeException e) {
+            closeQuietly(response);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(Response response) {
+        if (response != null) {
+            response.close();
         }
     }
 
+    private <T> T execute(Request request, Class<T> responseType) {
+        return execute(request, response -> readJson(response, responseType));
+    }
+
+    private <T> T execute(Request request, JavaType responseType) {
+        return execute(request, response -> readJson(response, responseType));
+    }
+
     private byte[] executeForBinary(Request request) {
-        try (Response response = httpClient.newCall(request).execute()) {
+        return execute(request, this::readBinary);
+    }
+
+    private <T> T execute(Request request, ResponseHandler<T> handler) {
+        try (Response response = send(request)) {
             handleErrors(response);
+            return handler.handle(response);
+        } catch (IOException e) {
+            throw networkError(e);
+        }
+    }
 
-            if (response.body() == null) {
-                throw new ApiException("Empty response body", response.code());
+    private Response send(Request request) throws IOException {
+        CircuitBreaker.Permit circuit = circuitBreaker != null ? circuitBreaker.acquire(request.url()) : null;
+        if (circuit == null) {
+            return sendWithinLimits(request, null);
+        }
+        Response response;
+        try {
+            response = sendWithinLimits(request, circuit);
+        } catch (IOException e) {
+            circuit.release(0);
+            throw e;
+        } catch (RuntimeException e) {
+            circuit.cancel();
+            throw e;
+        }
+        circuit.release(response.code());
+        return response;
+    }
+
+    private Response sendWithinLimits(Request request, CircuitBreaker.Permit circuit) throws IOException {
+        if (rateLimiter != null) {
+            long waitNanos = rateLimiter.reserve(request.url());
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AllscreenshotsException("Interrupted while waiting for the rate limiter", e);
+                }
             }
+        }
 
-            return response.body().bytes();
-        } catch (IOException e) {
-            throw new NetworkException("Network error: " + e.getMessage(), e);
+        ConcurrencyLimiter.Permit permit = concurrencyLimiter != null && concurrencyLimiter.appliesTo(request.url())
+                ? concurrencyLimiter.acquire()
+                : null;
+        if (circuit != null) {
+            circuit.sent();
+        }
+        if (permit == null) {
+            return executeCall(request);
+        }
+        Response response;
+        try {
+            response = executeCall(request);
+        } catch (IOException | RuntimeException e) {
+            permit.release(0);
+            throw e;
+        }
+        permit.release(response.code());
+        return response;
+    }
+
+    private Response executeCall(Request request) throws IOException {
+        CallGroup group = request.tag(CallGroup.class);
+        if (group != null) {
+            // Not hedged, so that cancelling the group reaches every call
+            Call call = httpClient.newCall(request);
+            group.join(call);
+            return call.execute();
+        }
+        return hedger != null && hedger.appliesTo(request)
+                ? hedger.execute(httpClient, request)
+                : httpClient.newCall(request).execute();
+    }
+
+    private <T> T readJson(Response response, Class<T> responseType) throws IOException {
+        if (responseType == Void.class) {
+            return null;
+        }
+        return readJson(response, codec.reader(responseType));
+    }
+
+    private <T> T readJson(Response response, JavaType responseType) throws IOException {
+        return readJson(response, codec.reader(responseType));
+    }
+
+    private <T> T readJson(Response response, ObjectReader reader) throws IOException {
+        if (response.body() == null) {
+            return null;
+        }
+
+        // Parse straight from the socket instead of decoding the whole body into a String first
+        BufferedSource source = response.body().source();
+        if (source.exhausted()) {
+            return null;
+        }
+
+        try (JsonParser parser = reader.createParser(source.inputStream())) {
+            return reader.readValue(parser);
+        }
+    }
+
+    private byte[] readBinary(Response response) throws IOException {
+        if (response.body() == null) {
+            throw new ApiException("Empty response body", response.code());
+        }
+
+        return response.body().bytes();
+    }
+
+    private <T> CompletableFuture<T> executeAsyncWithRetry(Request request, ResponseHandler<T> handler) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (tracing != SdkTracing.NOOP) {
+            TracedCall call = new TracedCall(tracing.startCall(request.method(), Endpoints.template(request.url(), apiBase)));
+            request = request.newBuilder().tag(TracedCall.class, call).build();
+            future.whenComplete(call::end);
+        }
+        executeAsync(request, handler, retryPolicy.newCall(), future);
+        return future;
+    }
+
+    private <T> void executeAsync(Request request, ResponseHandler<T> handler, RetryPolicy.State retries,
+                                  CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return;
+        }
+
+        CircuitBreaker.Permit circuit;
+        try {
+            circuit = circuitBreaker != null ? circuitBreaker.acquire(request.url()) : null;
+        } catch (CircuitBreakerOpenException e) {
+            future.completeExceptionally(e);
+            return;
+        }
+
+        long waitNanos = rateLimiter != null ? rateLimiter.reserve(request.url()) : 0;
+        if (waitNanos > 0) {
+            SharedScheduler.INSTANCE.schedule(() -> acquirePermit(request, handler, retries, future, circuit),
+                    waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            acquirePermit(request, handler, retries, future, circuit);
+        }
+    }
+
+    private <T> void acquirePermit(Request request, ResponseHandler<T> handler, RetryPolicy.State retries,
+                                   CompletableFuture<T> future, CircuitBreaker.Permit circuit) {
+        if (concurrencyLimiter == null || !concurrencyLimiter.appliesTo(request.url())) {
+            enqueue(request, handler, retries, future, circuit, null);
+            return;
         }
+        concurrencyLimiter.acquireAsync().whenComplete((permit, error) -> {
+            if (error != null) {
+                if (circuit != null) {
+                    circuit.cancel();
+                }
+                future.completeExceptionally(error);
+            } else {
+                enqueue(request, handler, retries, future, circuit, permit);
+            }
+        });
+    }
+
+    private <T> void enqueue(Request request, ResponseHandler<T> handler, RetryPolicy.State retries,
+                             CompletableFuture<T> future, CircuitBreaker.Permit circuit,
+                             ConcurrencyLimiter.Permit permit) {
+        if (future.isDone()) {
+            if (circuit != null) {
+                circuit.cancel();
+            }
+            if (permit != null) {
+                permit.cancel();
+            }
+            return;
+        }
+
+        Call call = httpClient.newCall(request);
+        future.whenComplete((result, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+
+        if (circuit != null) {
+            circuit.sent();
+        }
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (circuit != null) {
+                    // A call cancelled by the caller says nothing about the API's health
+                    if (call.isCanceled()) {
+                        circuit.cancel();
+                    } else {
+                        circuit.release(0);
+                    }
+                }
+                if (permit != null) {
+                    permit.release(0);
+                }
+                retryAsync(networkError(e), request, handler, retries, future);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (circuit != null) {
+                    circuit.release(response.code());
+                }
+                if (permit != null) {
+                    permit.release(response.code());
+                }
+                try (response) {
+                    handleErrors(response);
+                    future.complete(handler.handle(response));
+                } catch (AllscreenshotsException e) {
+                    retryAsync(e, request, handler, retries, future);
+                } catch (IOException e) {
+                    retryAsync(networkError(e), request, handler, retries, future);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private <T> void retryAsync(AllscreenshotsException e, Request request, ResponseHandler<T> handler,
+                                RetryPolicy.State retries, CompletableFuture<T> future) {
+        long delay = future.isDone() ? RetryPolicy.NO_RETRY : retryDelay(request, e, retries);
+        if (delay == RetryPolicy.NO_RETRY) {
+            future.completeExceptionally(e);
+            return;
+        }
+
+        SharedScheduler.INSTANCE.schedule(
+                () -> executeAsync(request, handler, retries, future),
+                delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the delay before retrying a failed attempt, or {@link RetryPolicy#NO_RETRY}, and
+     * reports the retry to metrics and tracing.
+     */
+    private long retryDelay(Request request, AllscreenshotsException e, RetryPolicy.State retries) {
+        long delay = retryPolicy.nextDelay(e, retries);
+        if (delay == RetryPolicy.NO_RETRY) {
+            return delay;
+        }
+        recordRetry(request.url(), e);
+        TracedCall call = request.tag(TracedCall.class);
+        if (call != null) {
+            call.backoff(delay);
+        }
+        return delay;
+    }
+
+    private void recordRetry(HttpUrl url, AllscreenshotsException e) {
+        if (metrics == SdkMetrics.NOOP) {
+            return;
+        }
+        RetryCause cause = e instanceof RateLimitException ? RetryCause.RATE_LIMIT
+                : e instanceof NetworkException ? RetryCause.NETWORK
+                : RetryCause.SERVER_ERROR;
+        metrics.retry(Endpoints.template(url, apiBase), cause);
     }
 
     private void handleErrors(Response response) throws IOException {
@@ -278,7 +965,7 @@ class HttpClient {
         ErrorResponse errorResponse = null;
         try {
             if (!responseBody.isEmpty()) {
-                errorResponse = objectMapper.readValue(responseBody, ErrorResponse.class);
+                errorResponse = codec.reader(ErrorResponse.class).readValue(responseBody);
             }
         } catch (JsonProcessingException ignored) {
             // Could not parse error response
@@ -297,14 +984,197 @@ class HttpClient {
             case 403:
                 throw new AuthenticationException(message, errorCode != null ? errorCode : "FORBIDDEN");
             case 429:
-                String retryAfterHeader = response.header("Retry-After");
-                Long retryAfter = retryAfterHeader != null ? Long.parseLong(retryAfterHeader) : null;
+                Long retryAfter = retryAfterSeconds(response);
+                if (rateLimiter != null) {
+                    rateLimiter.rateLimited(response.request().url(), retryAfter);
+                }
                 throw new RateLimitException(message, retryAfter);
             default:
                 throw new ApiException(message, errorCode != null ? errorCode : "API_ERROR", statusCode, responseBody);
         }
     }
 
+    /**
+     * Tracks the latest call of each thread working on one operation, so they can be cancelled
+     * together. Interrupting a thread does not abort a blocking socket read, but cancelling its
+     * call closes the socket.
+     */
+    static final class CallGroup {
+
+        private final Map<Thread, Call> calls = new ConcurrentHashMap<>();
+        private volatile boolean cancelled;
+
+        private void join(Call call) {
+            calls.put(Thread.currentThread(), call);
+            if (cancelled) {
+                call.cancel();
+            }
+        }
+
+        /**
+         * Forgets the current thread's call once it is done with the operation.
+         */
+        void leave() {
+            calls.remove(Thread.currentThread());
+        }
+
+        /**
+         * Cancels the calls in flight and any call joining later.
+         */
+        void cancel() {
+            cancelled = true;
+            calls.values().forEach(Call::cancel);
+        }
+    }
+
+    /**
+     * Reads a successful response into the caller's result type.
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
+
+    /**
+     * Copies a response body segment by segment into the caller's stream, remembering whether
+     * any bytes have been handed over.
+     */
+    private static final class StreamCopy implements ResponseHandler<Long> {
+        private static final long SEGMENT_SIZE = 8192;
+
+        private final OutputStream out;
+        private boolean started;
+
+        StreamCopy(OutputStream out) {
+            this.out = out;
+        }
+
+        boolean isStarted() {
+            return started;
+        }
+
+        @Override
+        public Long handle(Response response) throws IOException {
+            if (response.body() == null) {
+                throw new ApiException("Empty response body", response.code());
+            }
+
+            BufferedSource source = response.body().source();
+            Buffer buffer = new Buffer();
+            long total = 0;
+            long read;
+            while ((read = source.read(buffer, SEGMENT_SIZE)) != -1) {
+                started = true;
+                buffer.writeTo(out);
+                total += read;
+            }
+            out.flush();
+            return total;
+        }
+    }
+
+    /**
+     * Moves a response body from the okio source into a file channel through a pooled direct
+     * buffer, so the image never passes through a heap {@code byte[]}.
+     */
+    private static final class FileTransfer implements ResponseHandler<Long> {
+        private final Path file;
+        private final boolean sync;
+        private final long resumeFrom;
+        private long firstByteNanos;
+
+        FileTransfer(Path file, boolean sync) {
+            this(file, sync, 0);
+        }
+
+        /**
+         * @param resumeFrom the size of an existing partial file that a range request asked to continue
+         */
+        FileTransfer(Path file, boolean sync, long resumeFrom) {
+            this.file = file;
+            this.sync = sync;
+            this.resumeFrom = resumeFrom;
+        }
+
+        long getFirstByteNanos() {
+            return firstByteNanos;
+        }
+
+        @Override
+        public Long handle(Response response) throws IOException {
+            if (response.body() == null) {
+                throw new ApiException("Empty response body", response.code());
+            }
+
+            BufferedSource source = response.body().source();
+            ByteBuffer buffer = DirectBufferPool.INSTANCE.acquire();
+            // Servers that ignore the Range header answer 200 with the full body
+            boolean append = resumeFrom > 0 && response.code() == 206;
+            try (FileChannel channel = openChannel(append)) {
+                long total = 0;
+                while (source.read(buffer) != -1) {
+                    if (firstByteNanos == 0) {
+                        firstByteNanos = System.nanoTime();
+                    }
+                    buffer.flip();
+                    total += write(channel, buffer);
+                    buffer.clear();
+                }
+                if (sync) {
+                    force(channel);
+                }
+                return total;
+            } finally {
+                DirectBufferPool.INSTANCE.release(buffer);
+            }
+        }
+
+        private FileChannel openChannel(boolean append) {
+            try {
+                return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                throw new AllscreenshotsException("Failed to open " + file, e);
+            }
+        }
+
+        private int write(FileChannel channel, ByteBuffer buffer) {
+            try {
+                int written = 0;
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+                return written;
+            } catch (IOException e) {
+                throw new AllscreenshotsException("Failed to write to " + file, e);
+            }
+        }
+
+        private void force(FileChannel channel) {
+            try {
+                channel.force(true);
+            } catch (IOException e) {
+                throw new AllscreenshotsException("Failed to sync " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Reads {@code Retry-After}, which holds either delay seconds or an HTTP date.
+     */
+    private static Long retryAfterSeconds(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            Date date = response.headers().getDate("Retry-After");
+            return date != null ? Math.max(0, (date.getTime() - System.currentTimeMillis() + 999) / 1000) : null;
+        }
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
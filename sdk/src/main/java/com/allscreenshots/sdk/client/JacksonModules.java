@@ -0,0 +1,49 @@
+package com.allscreenshots.sdk.client;
+
+import com.fasterxml.jackson.databind.Module;
+
+/**
+ * Reflective access to the optional Jackson bytecode-generation modules.
+ *
+ * <p>Blackbird (or Afterburner, if that is what the application ships) replaces reflective field
+ * access in the model classes with generated accessors. Neither is a required dependency, so the
+ * module is looked up at runtime instead of being linked directly.</p>
+ */
+final class JacksonModules {
+
+    private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final String AFTERBURNER = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private JacksonModules() {
+    }
+
+    /**
+     * Creates the Blackbird module, or Afterburner if only that one is available.
+     *
+     * @return the module
+     * @throws IllegalStateException if neither module is on the classpath
+     */
+    static Module newAccessorModule() {
+        Class<?> moduleClass = load(BLACKBIRD);
+        if (moduleClass == null) {
+            moduleClass = load(AFTERBURNER);
+        }
+        if (moduleClass == null) {
+            throw new IllegalStateException("Jackson Blackbird is not on the classpath; add "
+                    + "com.fasterxml.jackson.module:jackson-module-blackbird to use fastJsonBinding");
+        }
+        try {
+            return (Module) moduleClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create " + moduleClass.getName(), e);
+        }
+    }
+
+    private static Class<?> load(String className) {
+        try {
+            return Class.forName(className, true, JacksonModules.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.JobTimeoutException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Polls job status until a terminal state with adaptive backoff.
+ *
+ * <p>The first poll is timed for when the job is expected to finish, based on a moving average of
+ * how long previous jobs took according to the server's own timestamps. After that, polls start
+ * quickly and back off exponentially, so a job that finishes around the expected time is seen
+ * promptly while slow jobs cost few requests.</p>
+ *
+ * <p>The estimate is learned from the server's timing rather than from when a poll happened to see
+ * the job finished: the latter is never earlier than the first poll, so the estimate could only
+ * ever grow.</p>
+ *
+ * <p>Polls are driven from {@link SharedScheduler} and the non-blocking API, so any number of
+ * outstanding jobs can be awaited without holding a thread per job.</p>
+ */
+final class JobPoller<T> {
+
+    private static final long MIN_DELAY_MS = 250;
+    private static final long MAX_DELAY_MS = 5000;
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final AtomicLong expectedDurationMs;
+    private final ToLongFunction<T> durationMs;
+    // The initial estimate is a guess, so the first measured duration replaces it outright
+    private volatile boolean learned;
+
+    /**
+     * @param initialExpectedDurationMs the estimate used until a job has been seen to finish
+     * @param durationMs how long a terminal job took according to the server, or -1 if unknown
+     */
+    JobPoller(long initialExpectedDurationMs, ToLongFunction<T> durationMs) {
+        this.expectedDurationMs = new AtomicLong(initialExpectedDurationMs);
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Returns the milliseconds between two server timestamps, or -1 if either is missing.
+     */
+    static long millisBetween(OffsetDateTime start, OffsetDateTime end) {
+        return start != null && end != null ? Duration.between(start, end).toMillis() : -1;
+    }
+
+    /**
+     * Returns the current estimate of how long a job takes to finish.
+     */
+    long getExpectedDurationMs() {
+        return expectedDurationMs.get();
+    }
+
+    /**
+     * Polls until {@code isTerminal} accepts the fetched job or the timeout elapses.
+     *
+     * <p>The timeout holds even if a fetch hangs or keeps retrying. Completing or cancelling the
+     * returned future stops polling and cancels a fetch in flight.</p>
+     *
+     * @param jobId the job ID, used in the timeout exception
+     * @param fetch fetches the current job status
+     * @param isTerminal whether a job status is final
+     * @param timeout the maximum time to wait
+     * @return a future completing with the terminal job status
+     */
+    CompletableFuture<T> await(String jobId, Supplier<CompletableFuture<T>> fetch, Predicate<T> isTerminal,
+                               Duration timeout) {
+        Poll<T> poll = new Poll<>(jobId, fetch, isTerminal, System.nanoTime(), timeout.toNanos());
+        ScheduledFuture<?> deadline = SharedScheduler.INSTANCE.schedule(
+                () -> poll.result.completeExceptionally(timedOut(poll)), poll.timeoutNanos, TimeUnit.NANOSECONDS);
+        poll.result.whenComplete((job, error) -> {
+            deadline.cancel(false);
+            CompletableFuture<T> inFlight = poll.inFlight;
+            if (inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+        schedule(poll, Math.min(initialDelayMs(), TimeUnit.NANOSECONDS.toMillis(poll.timeoutNanos)));
+        return poll.result;
+    }
+
+    private long initialDelayMs() {
+        return clamp(expectedDurationMs.get());
+    }
+
+    private void schedule(Poll<T> poll, long delayMs) {
+        SharedScheduler.INSTANCE.schedule(() -> run(poll), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(Poll<T> poll) {
+        if (poll.result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<T> fetched;
+        try {
+            fetched = poll.fetch.get();
+        } catch (RuntimeException | Error e) {
+            // Thrown on the scheduler thread, where nobody would see it
+            poll.result.completeExceptionally(e);
+            return;
+        }
+        poll.inFlight = fetched;
+        if (poll.result.isDone()) {
+            fetched.cancel(true);
+            return;
+        }
+
+        fetched.whenComplete((job, error) -> {
+            try {
+                handle(poll, job, error);
+            } catch (RuntimeException | Error e) {
+                poll.result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void handle(Poll<T> poll, T job, Throwable error) {
+        if (error != null) {
+            poll.result.completeExceptionally(Futures.unwrap(error));
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - poll.startNanos;
+        if (poll.isTerminal.test(job)) {
+            record(durationMs.applyAsLong(job));
+            poll.result.complete(job);
+            return;
+        }
+
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(poll.timeoutNanos - elapsedNanos);
+        if (remainingMs <= 0) {
+            poll.result.completeExceptionally(timedOut(poll));
+            return;
+        }
+
+        schedule(poll, Math.min(nextDelayMs(poll, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)), remainingMs));
+    }
+
+    private static JobTimeoutException timedOut(Poll<?> poll) {
+        return new JobTimeoutException("Job " + poll.jobId + " did not finish within the timeout", poll.jobId);
+    }
+
+    private long nextDelayMs(Poll<T> poll, long elapsedMs) {
+        long untilExpected = expectedDurationMs.get() - elapsedMs;
+        if (untilExpected > MIN_DELAY_MS) {
+            return clamp(untilExpected);
+        }
+        poll.backoffMs = poll.backoffMs == 0
+                ? MIN_DELAY_MS
+                : Math.min(MAX_DELAY_MS, (long) (poll.backoffMs * BACKOFF_MULTIPLIER));
+        return poll.backoffMs;
+    }
+
+    private void record(long observedMs) {
+        if (observedMs < 0) {
+            return;
+        }
+        if (!learned) {
+            learned = true;
+            expectedDurationMs.set(observedMs);
+            return;
+        }
+        expectedDurationMs.updateAndGet(current -> (long) (current + SMOOTHING * (observedMs - current)));
+    }
+
+    private static long clamp(long delayMs) {
+        return Math.max(MIN_DELAY_MS, Math.min(MAX_DELAY_MS, delayMs));
+    }
+
+    private static final class Poll<T> {
+        final String jobId;
+        final Supplier<CompletableFuture<T>> fetch;
+        final Predicate<T> isTerminal;
+        final long startNanos;
+        final long timeoutNanos;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        volatile CompletableFuture<T> inFlight;
+        long backoffMs;
+
+        Poll(String jobId, Supplier<CompletableFuture<T>> fetch, Predicate<T> isTerminal,
+             long startNanos, long timeoutNanos) {
+            this.jobId = jobId;
+            this.fetch = fetch;
+            this.isTerminal = isTerminal;
+            this.startNanos = startNanos;
+            this.timeoutNanos = timeoutNanos;
+        }
+    }
+}
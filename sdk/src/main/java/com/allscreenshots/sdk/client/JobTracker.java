@@ -0,0 +1,342 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.ApiException;
+import com.allscreenshots.sdk.exception.AuthenticationException;
+import com.allscreenshots.sdk.exception.JobTimeoutException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Tracks many outstanding jobs with one list request per tick.
+ *
+ * <p>Rather than polling each job individually, the tracker keeps the set of pending job IDs and
+ * refreshes all of them with a single list call per interval, so request volume grows with
+ * elapsed time rather than with the number of jobs. Each status change is reported to the job's
+ * callback, and its future completes once the job reaches {@code COMPLETED}, {@code FAILED} or
+ * {@code CANCELLED}, or fails once it times out. Jobs that have dropped out of the list response are
+ * looked up individually, and fail if the API no longer knows them.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * JobTracker<JobResponse> tracker = client.screenshots().jobTracker();
+ *
+ * for (ScreenshotRequest request : requests) {
+ *     AsyncJobCreatedResponse job = client.screenshots().captureAsync(request);
+ *     tracker.track(job.getId()).thenAccept(done -> {
+ *         if (done.isCompleted()) {
+ *             download(done.getId());
+ *         }
+ *     });
+ * }
+ * }</pre>
+ *
+ * @param <T> the job status type the futures complete with
+ */
+public class JobTracker<T> {
+
+    static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(2);
+    private static final int MISSED_TICKS_BEFORE_LOOKUP = 2;
+    private static final int LIST_FAILURES_BEFORE_GIVING_UP = 5;
+
+    private final Duration interval;
+    private final JobSource<T> source;
+
+    private final Map<String, TrackedJob<T>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean ticking = new AtomicBoolean();
+    // Only touched by the tick in progress, and ticks never overlap
+    private int listFailures;
+
+    JobTracker(Duration interval, JobSource<T> source) {
+        this.interval = interval;
+        this.source = source;
+    }
+
+    /**
+     * Starts tracking a job, giving up after 5 minutes.
+     *
+     * <p>Cancelling the returned future stops tracking the job.</p>
+     *
+     * @param jobId the job ID
+     * @return a future completing with the job once it reaches a terminal status
+     */
+    public CompletableFuture<T> track(String jobId) {
+        return track(jobId, status -> { });
+    }
+
+    /**
+     * Starts tracking a job and reports each status change, giving up after 5 minutes.
+     *
+     * @param jobId the job ID
+     * @param onStatusChange called with the new status whenever it changes
+     * @return a future completing with the job once it reaches a terminal status
+     * @see #track(String, Consumer, Duration)
+     */
+    public CompletableFuture<T> track(String jobId, Consumer<String> onStatusChange) {
+        return track(jobId, onStatusChange, AsyncScreenshotsApi.DEFAULT_AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Starts tracking a job and reports each status change.
+     *
+     * <p>The returned future fails with a {@link JobTimeoutException} if the job is still pending
+     * when the timeout elapses, and with the API error if the job cannot be found. Cancelling it
+     * stops tracking the job.</p>
+     *
+     * <p>The callback runs on an HTTP client thread and should not block. Status changes of one job
+     * are reported one at a time and in order. Tracking a job that is already tracked adds the
+     * callback and returns the same future, whose timeout was set by the first call.</p>
+     *
+     * @param jobId the job ID
+     * @param onStatusChange called with the new status whenever it changes
+     * @param timeout the maximum time to wait for a terminal status
+     * @return a future completing with the job once it reaches a terminal status
+     */
+    public CompletableFuture<T> track(String jobId, Consumer<String> onStatusChange, Duration timeout) {
+        TrackedJob<T> created = new TrackedJob<>();
+        TrackedJob<T> job = pending.compute(jobId,
+                (id, existing) -> existing == null || existing.future.isDone() ? created : existing);
+        job.listeners.add(onStatusChange);
+        if (job == created) {
+            ScheduledFuture<?> deadline = SharedScheduler.INSTANCE.schedule(() -> job.future.completeExceptionally(
+                    new JobTimeoutException("Job " + jobId + " did not finish within the timeout", jobId)),
+                    timeout.toMillis(), TimeUnit.MILLISECONDS);
+            job.future.whenComplete((result, error) -> {
+                deadline.cancel(false);
+                pending.remove(jobId, job);
+            });
+        }
+        scheduleTick();
+        return job.future;
+    }
+
+    /**
+     * Returns the number of jobs still being tracked.
+     *
+     * @return the pending job count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void scheduleTick() {
+        if (!pending.isEmpty() && ticking.compareAndSet(false, true)) {
+            SharedScheduler.INSTANCE.schedule(this::tick, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void tick() {
+        pending.values().removeIf(job -> job.future.isDone());
+        if (pending.isEmpty()) {
+            finishTick();
+            return;
+        }
+
+        long requestedAt = System.nanoTime();
+        CompletableFuture<List<Listed<T>>> listed;
+        try {
+            listed = source.list();
+        } catch (RuntimeException | Error e) {
+            listFailed(e);
+            finishTick();
+            return;
+        }
+        listed.whenComplete((jobs, error) -> {
+            try {
+                if (error != null) {
+                    listFailed(Futures.unwrap(error));
+                    return;
+                }
+                listFailures = 0;
+                update(jobs, requestedAt);
+            } finally {
+                finishTick();
+            }
+        });
+    }
+
+    private void listFailed(Throwable cause) {
+        if (cause instanceof AuthenticationException || ++listFailures >= LIST_FAILURES_BEFORE_GIVING_UP) {
+            listFailures = 0;
+            failAll(cause);
+        }
+    }
+
+    private void finishTick() {
+        ticking.set(false);
+        scheduleTick();
+    }
+
+    private void update(List<Listed<T>> jobs, long requestedAt) {
+        Map<String, Listed<T>> byId = new HashMap<>();
+        for (Listed<T> job : jobs) {
+            if (pending.containsKey(job.id)) {
+                byId.put(job.id, job);
+            }
+        }
+
+        pending.forEach((id, tracked) -> {
+            try {
+                Listed<T> listed = byId.get(id);
+                if (listed == null) {
+                    if (tracked.missedTicks.incrementAndGet() >= MISSED_TICKS_BEFORE_LOOKUP) {
+                        tracked.missedTicks.set(0);
+                        lookUp(id, tracked);
+                    }
+                    return;
+                }
+                tracked.missedTicks.set(0);
+                if (tracked.observe(listed.status, requestedAt)) {
+                    complete(tracked, listed.job != null
+                            ? CompletableFuture.completedFuture(listed.job)
+                            : source.fetch(id));
+                }
+            } catch (RuntimeException | Error e) {
+                tracked.future.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void lookUp(String id, TrackedJob<T> tracked) {
+        long requestedAt = System.nanoTime();
+        source.fetch(id).whenComplete((job, error) -> {
+            try {
+                if (error != null) {
+                    Throwable cause = Futures.unwrap(error);
+                    if (cause instanceof AuthenticationException) {
+                        failAll(cause);
+                    } else if (isNotFound(cause)) {
+                        tracked.future.completeExceptionally(cause);
+                    }
+                    return;
+                }
+                if (job == null) {
+                    throw new ApiException("Empty status response for job " + id, 200);
+                }
+                if (tracked.observe(source.statusOf(job), requestedAt)) {
+                    complete(tracked, CompletableFuture.completedFuture(job));
+                }
+            } catch (RuntimeException | Error e) {
+                tracked.future.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void complete(TrackedJob<T> tracked, CompletableFuture<T> result) {
+        result.whenComplete((job, error) -> {
+            if (error != null) {
+                tracked.future.completeExceptionally(Futures.unwrap(error));
+            } else {
+                tracked.future.complete(job);
+            }
+        });
+    }
+
+    private void failAll(Throwable error) {
+        pending.values().forEach(tracked -> tracked.future.completeExceptionally(error));
+    }
+
+    private static boolean isNotFound(Throwable error) {
+        return error instanceof AllscreenshotsException
+                && Integer.valueOf(404).equals(((AllscreenshotsException) error).getStatusCode());
+    }
+
+    private static boolean isTerminal(String status) {
+        return "COMPLETED".equalsIgnoreCase(status)
+                || "FAILED".equalsIgnoreCase(status)
+                || "CANCELLED".equalsIgnoreCase(status);
+    }
+
+    private static final class TrackedJob<T> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        final AtomicInteger missedTicks = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private String lastStatus;
+        private boolean observed;
+        private long lastRequestedAt;
+
+        /**
+         * Records a status observed by a request sent at {@code requestedAt}, notifying the
+         * listeners if it changed. Observations older than the last one applied, and anything after
+         * a terminal status, are ignored, so list and lookup responses racing each other cannot
+         * report statuses twice or out of order.
+         *
+         * @return whether the job just reached a terminal status
+         */
+        boolean observe(String status, long requestedAt) {
+            lock.lock();
+            try {
+                if (status == null || (observed && requestedAt - lastRequestedAt < 0) || isTerminal(lastStatus)) {
+                    return false;
+                }
+                observed = true;
+                lastRequestedAt = requestedAt;
+                if (status.equalsIgnoreCase(lastStatus)) {
+                    return false;
+                }
+                lastStatus = status;
+                // Under the lock, so that one job's callbacks never overlap or reorder
+                for (Consumer<String> listener : listeners) {
+                    listener.accept(status);
+                }
+                return isTerminal(status);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Lists and fetches one kind of job.
+     */
+    interface JobSource<T> {
+
+        /**
+         * Lists all jobs of this kind.
+         */
+        CompletableFuture<List<Listed<T>>> list();
+
+        /**
+         * Fetches the full status of a single job.
+         */
+        CompletableFuture<T> fetch(String jobId);
+
+        /**
+         * Extracts the status of a fetched job.
+         */
+        String statusOf(T job);
+    }
+
+    /**
+     * A job as seen in a list response.
+     */
+    static final class Listed<T> {
+        final String id;
+        final String status;
+        final T job;
+
+        /**
+         * @param id the job ID
+         * @param status the listed status
+         * @param job the full job if the list response carries it, otherwise null
+         */
+        Listed(String id, String status, T job) {
+            this.id = id;
+            this.status = status;
+            this.job = job;
+        }
+    }
+}
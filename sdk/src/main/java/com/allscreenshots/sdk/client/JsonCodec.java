@@ -0,0 +1,102 @@
+package com.allscreenshots.sdk.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches Jackson readers, writers and collection types per model type.
+ *
+ * <p>{@link ObjectReader} and {@link ObjectWriter} are immutable and thread-safe, and each one
+ * holds on to the root (de)serializer it resolved. Reusing them skips the serializer lookup and
+ * type-factory work that {@code ObjectMapper.readValue(..., Class)} repeats on every call.
+ * Entries are created on first use.</p>
+ */
+final class JsonCodec {
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<JavaType, ObjectReader> typeReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, JavaType> listTypes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    JsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    ObjectReader reader(Class<?> type) {
+        ObjectReader reader = readers.get(type);
+        return reader != null ? reader : readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    ObjectReader reader(JavaType type) {
+        ObjectReader reader = typeReaders.get(type);
+        return reader != null ? reader : typeReaders.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    JavaType listOf(Class<?> elementType) {
+        JavaType type = listTypes.get(elementType);
+        return type != null ? type : listTypes.computeIfAbsent(elementType,
+                element -> objectMapper.getTypeFactory().constructCollectionType(List.class, element));
+    }
+
+    ObjectWriter writer(Class<?> type) {
+        ObjectWriter writer = writers.get(type);
+        return writer != null ? writer : writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    /**
+     * Returns a SHA-256 digest of {@code value}'s JSON with object properties sorted by name and
+     * the {@code ignored} top-level properties left out, so values that serialize alike get the
+     * same hash whatever the order of their map entries.
+     */
+    String canonicalHash(Object value, Set<String> ignored) {
+        JsonNode tree = objectMapper.valueToTree(value);
+        if (tree instanceof ObjectNode) {
+            ((ObjectNode) tree).remove(ignored);
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(sorted(tree));
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode sorted(JsonNode node) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            ObjectNode sorted = objectMapper.createObjectNode();
+            for (String name : names) {
+                sorted.set(name, sorted(node.get(name)));
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            ArrayNode sorted = objectMapper.createArrayNode();
+            node.forEach(element -> sorted.add(sorted(element)));
+            return sorted;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,117 @@
+package com.allscreenshots.sdk.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request body that serializes its value with a cached Jackson writer straight into the OkHttp sink.
+ *
+ * <p>No intermediate {@code String} or {@code byte[]} is built. The replayable form also keeps
+ * the bytes of the first write, so retries and the logging interceptor resend them instead of
+ * serializing again.</p>
+ */
+final class JsonRequestBody extends RequestBody {
+
+    static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final ObjectWriter writer;
+    private final Object value;
+    private final boolean replayable;
+    private volatile ByteString cached;
+
+    private JsonRequestBody(ObjectWriter writer, Object value, boolean replayable) {
+        this.writer = writer;
+        this.value = value;
+        this.replayable = replayable;
+    }
+
+    /**
+     * Creates a body that serializes {@code value} again on every write.
+     */
+    static JsonRequestBody streaming(ObjectWriter writer, Object value) {
+        return new JsonRequestBody(writer, value, false);
+    }
+
+    /**
+     * Creates a body that serializes {@code value} once and replays the bytes on later writes.
+     */
+    static JsonRequestBody replayable(ObjectWriter writer, Object value) {
+        return new JsonRequestBody(writer, value, true);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    @Override
+    public long contentLength() {
+        ByteString bytes = cached;
+        return bytes != null ? bytes.size() : -1;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        ByteString bytes = cached;
+        if (bytes != null) {
+            sink.write(bytes);
+            return;
+        }
+
+        if (!replayable) {
+            serialize(sink.outputStream());
+            return;
+        }
+
+        Buffer copy = new Buffer();
+        OutputStream out = sink.outputStream();
+        serialize(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                copy.writeByte(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                copy.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+        });
+        // snapshot() shares the buffer's segments instead of copying them
+        cached = copy.snapshot();
+    }
+
+    private void serialize(OutputStream out) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            // The sink belongs to OkHttp; closing it here would end the request early
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(generator, value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * Signals that the value could not be serialized, as opposed to the sink failing.
+     */
+    static final class SerializationException extends IOException {
+        SerializationException(JsonProcessingException cause) {
+            super("Failed to serialize request body", cause);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.metrics.SdkMetrics;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reports each OkHttp call to {@link SdkMetrics}: one timer sample per call, plus body sizes.
+ *
+ * <p>Only installed when metrics are enabled. A call ends when its response body is closed, so
+ * streamed and downloaded results are timed until the last byte was read.</p>
+ */
+final class MetricsEventListener extends EventListener {
+
+    private final SdkMetrics metrics;
+    private final HttpUrl apiBase;
+    private final AtomicInteger inFlight;
+    private String endpoint;
+    private long startNanos;
+    private int status;
+
+    private MetricsEventListener(SdkMetrics metrics, HttpUrl apiBase, AtomicInteger inFlight) {
+        this.metrics = metrics;
+        this.apiBase = apiBase;
+        this.inFlight = inFlight;
+    }
+
+    static EventListener.Factory factory(SdkMetrics metrics, HttpUrl apiBase, AtomicInteger inFlight) {
+        return call -> new MetricsEventListener(metrics, apiBase, inFlight);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        startNanos = System.nanoTime();
+        endpoint = Endpoints.template(call.request().url(), apiBase);
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        metrics.bytesSent(endpoint, byteCount);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        status = response.code();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        metrics.bytesReceived(endpoint, byteCount);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        finish(call);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        finish(call);
+    }
+
+    private void finish(Call call) {
+        inFlight.decrementAndGet();
+        metrics.requestCompleted(call.request().method(), endpoint, status, System.nanoTime() - startNanos);
+    }
+}
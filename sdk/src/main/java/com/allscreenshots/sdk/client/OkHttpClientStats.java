@@ -0,0 +1,42 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.metrics.ClientStats;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ClientStats} read from the OkHttp connection pool and dispatcher.
+ *
+ * <p>Pool counts include every client sharing the pool, as with {@code newBuilder()}.</p>
+ */
+final class OkHttpClientStats implements ClientStats {
+
+    private final OkHttpClient httpClient;
+    private final AtomicInteger inFlight;
+
+    OkHttpClientStats(OkHttpClient httpClient, AtomicInteger inFlight) {
+        this.httpClient = httpClient;
+        this.inFlight = inFlight;
+    }
+
+    @Override
+    public int connectionCount() {
+        return httpClient.connectionPool().connectionCount();
+    }
+
+    @Override
+    public int idleConnectionCount() {
+        return httpClient.connectionPool().idleConnectionCount();
+    }
+
+    @Override
+    public int inFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int queuedRequests() {
+        return httpClient.dispatcher().queuedCallsCount();
+    }
+}
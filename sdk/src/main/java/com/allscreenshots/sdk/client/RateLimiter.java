@@ -0,0 +1,122 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.util.EndpointFamily;
+import com.allscreenshots.sdk.util.RateLimitConfig;
+import okhttp3.HttpUrl;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side rate limiter shared by all calls of one client.
+ *
+ * <p>Callers reserve a permit before each attempt and get back how long to wait before sending.
+ * Reservations may run the bucket into debt, which spreads concurrent callers out at the
+ * configured rate instead of letting them all wake at once. Requests to other hosts, such as
+ * result downloads from storage, are not limited.</p>
+ */
+final class RateLimiter {
+
+    private final HttpUrl apiBase;
+    private final TokenBucket defaultBucket;
+    private final Map<EndpointFamily, TokenBucket> buckets = new EnumMap<>(EndpointFamily.class);
+    private final long defaultRetryAfterNanos;
+
+    RateLimiter(RateLimitConfig config, HttpUrl apiBase) {
+        this.apiBase = apiBase;
+        this.defaultBucket = new TokenBucket(config.getDefaultLimit());
+        for (Map.Entry<EndpointFamily, RateLimitConfig.Limit> entry : config.getLimits().entrySet()) {
+            buckets.put(entry.getKey(), new TokenBucket(entry.getValue()));
+        }
+        this.defaultRetryAfterNanos = config.getDefaultRetryAfter().toNanos();
+    }
+
+    /**
+     * Takes a permit for a request to {@code url}.
+     *
+     * @return nanoseconds to wait before sending the request
+     */
+    long reserve(HttpUrl url) {
+        TokenBucket bucket = bucketFor(url);
+        return bucket != null ? bucket.reserve() : 0;
+    }
+
+    /**
+     * Pauses the bucket of {@code url} after a 429.
+     *
+     * @param retryAfterSeconds the server's {@code Retry-After}, or {@code null} if it sent none
+     */
+    void rateLimited(HttpUrl url, Long retryAfterSeconds) {
+        TokenBucket bucket = bucketFor(url);
+        if (bucket != null) {
+            bucket.pause(retryAfterSeconds != null ? TimeUnit.SECONDS.toNanos(retryAfterSeconds) : defaultRetryAfterNanos);
+        }
+    }
+
+    private TokenBucket bucketFor(HttpUrl url) {
+        if (!Endpoints.isApiHost(url, apiBase)) {
+            return null;
+        }
+        EndpointFamily family = Endpoints.family(url, apiBase);
+        TokenBucket bucket = family != null ? buckets.get(family) : null;
+        return bucket != null ? bucket : defaultBucket;
+    }
+
+    static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double burst;
+        private final ReentrantLock lock = new ReentrantLock();
+        private double permits;
+        private long refilledAt;
+        private long pausedUntil;
+
+        TokenBucket(RateLimitConfig.Limit limit) {
+            this.permitsPerNano = limit.isUnlimited() ? 0 : limit.getPermitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+            this.burst = limit.getBurst();
+            this.permits = burst;
+            this.refilledAt = System.nanoTime();
+            this.pausedUntil = refilledAt;
+        }
+
+        long reserve() {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                long pauseNanos = Math.max(0, pausedUntil - now);
+                if (permitsPerNano == 0) {
+                    return pauseNanos;
+                }
+                // No permits accrue while paused, so the bucket restarts nearly empty after a 429
+                long refillFrom = pausedUntil - refilledAt > 0 ? pausedUntil : refilledAt;
+                if (now - refillFrom > 0) {
+                    permits = Math.min(burst, permits + (now - refillFrom) * permitsPerNano);
+                    refilledAt = now;
+                }
+                permits -= 1;
+                long debtNanos = permits < 0 ? (long) Math.ceil(-permits / permitsPerNano) : 0;
+                return pauseNanos + debtNanos;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void pause(long nanos) {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                if (now + nanos - pausedUntil > 0) {
+                    pausedUntil = now + nanos;
+                    if (permitsPerNano != 0) {
+                        permits = Math.min(permits, 1);
+                        refilledAt = pausedUntil;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.cache.CacheStats;
+import com.allscreenshots.sdk.cache.CacheStorage;
+import com.allscreenshots.sdk.util.ResultCacheConfig;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-bounded result cache with W-TinyLFU eviction.
+ *
+ * <p>New entries go into a window LRU holding 1% of the capacity. Entries
+ * leaving the window join the probation segment of the main area if there is room; otherwise the
+ * {@link FrequencySketch} decides whether they are worth more than the least recently used main
+ * entries that would have to go. Hits in probation promote an entry to the protected segment,
+ * which demotes its own least recently used entries back to probation when over its share.</p>
+ *
+ * <p>Every entry shares one TTL, so an expiry queue in insertion order holds the entries that
+ * expire first at its head. Each put drops expired entries from there before admission runs, so
+ * results that were popular but have gone stale cannot keep newer ones out.</p>
+ *
+ * <p>The index is guarded by one lock; the bytes live in the {@link CacheStorage} and are read
+ * and written outside it, so slow storage does not block other lookups. Storage keys are
+ * prefixed per cache, so clients built from one config can share a storage without seeing each
+ * other's job results, and suffixed per write, so deleting a replaced entry never removes the
+ * bytes of the entry that replaced it.</p>
+ */
+final class ResultCache {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+    // Used to size the frequency sketch, which counts keys rather than bytes
+    private static final long TYPICAL_ENTRY_BYTES = 16 * 1024;
+    private static final AtomicLong NAMESPACES = new AtomicLong();
+
+    private final CacheStorage storage;
+    private final String namespace = "c" + NAMESPACES.incrementAndGet() + ':';
+    private final AtomicLong generations = new AtomicLong();
+    private final long maximumSize;
+    private final long windowMax;
+    private final long protectedMax;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<String, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> protectedArea = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> expiryQueue = new LinkedHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private long windowSize;
+    private long probationSize;
+    private long protectedSize;
+
+    ResultCache(ResultCacheConfig config) {
+        this.storage = config.getStorage();
+        this.maximumSize = config.getMaximumSize();
+        this.windowMax = Math.max(1, (long) (maximumSize * WINDOW_RATIO));
+        this.protectedMax = (long) ((maximumSize - windowMax) * PROTECTED_RATIO);
+        this.ttlNanos = config.getTtl().toNanos();
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, maximumSize / TYPICAL_ENTRY_BYTES));
+    }
+
+    /**
+     * Returns the cached bytes for {@code key}, or null on a miss.
+     */
+    byte[] get(String key) {
+        Node node;
+        Node expired = null;
+        lock.lock();
+        try {
+            sketch.increment(key);
+            node = touch(key);
+            if (node != null && node.isExpired(System.nanoTime())) {
+                unlink(key, node);
+                evictions.increment();
+                expired = node;
+                node = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (expired != null) {
+            delete(expired);
+        }
+        byte[] value = node != null ? read(node) : null;
+        if (value == null) {
+            if (node != null) {
+                // The storage lost the entry, so the index should forget it too
+                lock.lock();
+                try {
+                    unlink(key, node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return value;
+    }
+
+    /**
+     * Caches {@code value} under {@code key}, replacing any previous entry. The entry may be
+     * evicted at once if admission prefers the entries already cached.
+     */
+    void put(String key, byte[] value) {
+        long weight = value.length;
+        if (weight > maximumSize) {
+            rejections.increment();
+            return;
+        }
+        String storageKey = namespace + key + '#' + generations.incrementAndGet();
+        if (!write(storageKey, value)) {
+            return;
+        }
+
+        List<Node> removed = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            expire(now, removed);
+            sketch.increment(key);
+            unlinkAny(key, removed);
+            Node node = new Node(storageKey, weight, now + ttlNanos);
+            window.put(key, node);
+            expiryQueue.put(key, node);
+            windowSize += weight;
+            while (windowSize > windowMax) {
+                Map.Entry<String, Node> eldest = window.entrySet().iterator().next();
+                window.remove(eldest.getKey());
+                windowSize -= eldest.getValue().weight;
+                admit(eldest.getKey(), eldest.getValue(), now, removed);
+            }
+        } finally {
+            lock.unlock();
+        }
+        removed.forEach(this::delete);
+    }
+
+    CacheStats stats() {
+        long entries;
+        long size;
+        lock.lock();
+        try {
+            entries = window.size() + probation.size() + protectedArea.size();
+            size = windowSize + probationSize + protectedSize;
+        } finally {
+            lock.unlock();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum(), entries, size);
+    }
+
+    // Called with the lock held; the queue is in insertion order, which is expiry order with one TTL
+    private void expire(long now, List<Node> removed) {
+        Iterator<Map.Entry<String, Node>> eldest = expiryQueue.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Map.Entry<String, Node> entry = eldest.next();
+            if (!entry.getValue().isExpired(now)) {
+                return;
+            }
+            eldest.remove();
+            unlink(entry.getKey(), entry.getValue());
+            evictions.increment();
+            removed.add(entry.getValue());
+        }
+    }
+
+    // Called with the lock held; finds the entry and records the access in its segment
+    private Node touch(String key) {
+        Node node = window.get(key);
+        if (node == null) {
+            node = protectedArea.get(key);
+        }
+        if (node == null) {
+            node = probation.remove(key);
+            if (node != null) {
+                probationSize -= node.weight;
+                protectedArea.put(key, node);
+                protectedSize += node.weight;
+                demoteProtected();
+            }
+        }
+        return node;
+    }
+
+    // Called with the lock held
+    private void demoteProtected() {
+        Iterator<Map.Entry<String, Node>> eldest = protectedArea.entrySet().iterator();
+        while (protectedSize > protectedMax && eldest.hasNext()) {
+            Map.Entry<String, Node> entry = eldest.next();
+            eldest.remove();
+            protectedSize -= entry.getValue().weight;
+            probation.put(entry.getKey(), entry.getValue());
+            probationSize += entry.getValue().weight;
+        }
+    }
+
+    // Called with the lock held; moves a candidate leaving the window into the main area, or drops it
+    private void admit(String key, Node candidate, long now, List<Node> removed) {
+        long excess = windowSize + probationSize + protectedSize + candidate.weight - maximumSize;
+        if (excess > 0) {
+            List<Map.Entry<String, Node>> victims = victims(key, excess, now);
+            if (victims == null) {
+                expiryQueue.remove(key, candidate);
+                rejections.increment();
+                removed.add(candidate);
+                return;
+            }
+            for (Map.Entry<String, Node> victim : victims) {
+                unlink(victim.getKey(), victim.getValue());
+                evictions.increment();
+                removed.add(victim.getValue());
+            }
+        }
+        probation.put(key, candidate);
+        probationSize += candidate.weight;
+    }
+
+    /**
+     * Returns the least recently used main entries that free {@code excess} bytes, or null if the
+     * candidate is not used more often than each of them. Expired entries go regardless.
+     */
+    private List<Map.Entry<String, Node>> victims(String candidate, long excess, long now) {
+        int candidateFrequency = sketch.frequency(candidate);
+        List<Map.Entry<String, Node>> victims = new ArrayList<>();
+        long freed = 0;
+        for (Map<String, Node> segment : List.of(probation, protectedArea)) {
+            for (Map.Entry<String, Node> entry : segment.entrySet()) {
+                if (freed >= excess) {
+                    return victims;
+                }
+                if (!entry.getValue().isExpired(now)
+                        && sketch.frequency(entry.getKey()) >= candidateFrequency) {
+                    return null;
+                }
+                victims.add(Map.entry(entry.getKey(), entry.getValue()));
+                freed += entry.getValue().weight;
+            }
+        }
+        return freed >= excess ? victims : null;
+    }
+
+    // Called with the lock held; removes the entry unless it was replaced in the meantime
+    private void unlink(String key, Node node) {
+        expiryQueue.remove(key, node);
+        if (window.remove(key, node)) {
+            windowSize -= node.weight;
+        } else if (probation.remove(key, node)) {
+            probationSize -= node.weight;
+        } else if (protectedArea.remove(key, node)) {
+            protectedSize -= node.weight;
+        }
+    }
+
+    // Called with the lock held
+    private void unlinkAny(String key, List<Node> removed) {
+        Node node = window.get(key);
+        if (node == null) {
+            node = probation.get(key);
+        }
+        if (node == null) {
+            node = protectedArea.get(key);
+        }
+        if (node != null) {
+            unlink(key, node);
+            removed.add(node);
+        }
+    }
+
+    private boolean write(String storageKey, byte[] value) {
+        try {
+            storage.put(storageKey, value);
+            return true;
+        } catch (RuntimeException e) {
+            // A result that cannot be cached is still a result
+            return false;
+        }
+    }
+
+    private byte[] read(Node node) {
+        try {
+            return storage.get(node.storageKey);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void delete(Node node) {
+        try {
+            storage.remove(node.storageKey);
+        } catch (RuntimeException e) {
+            // Best effort; the entry is no longer indexed and will not be read again
+        }
+    }
+
+    private static final class Node {
+
+        private final String storageKey;
+        private final long weight;
+        private final long expiresAt;
+
+        private Node(String storageKey, long weight, long expiresAt) {
+            this.storageKey = storageKey;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
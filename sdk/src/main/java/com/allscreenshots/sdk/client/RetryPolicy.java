@@ -0,0 +1,154 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.ApiException;
+import com.allscreenshots.sdk.exception.NetworkException;
+import com.allscreenshots.sdk.exception.RateLimitException;
+import com.allscreenshots.sdk.util.RetryConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decides whether and when failed attempts are retried, for the sync and async paths alike.
+ *
+ * <p>Each call gets a {@link State} that counts its retries and remembers the previous delay for
+ * decorrelated jitter. The optional retry budget is shared by all calls of one client.</p>
+ */
+final class RetryPolicy {
+
+    /**
+     * Returned by {@link #nextDelay} when the failure must not be retried.
+     */
+    static final long NO_RETRY = -1;
+
+    private final RetryConfig config;
+    private final RetryBudget budget;
+
+    RetryPolicy(RetryConfig config) {
+        this.config = config;
+        this.budget = config.hasRetryBudget() ? new RetryBudget(config) : null;
+    }
+
+    boolean isRetryEnabled() {
+        return config.isRetryEnabled();
+    }
+
+    /**
+     * Starts a new call, which also earns the retry budget its share.
+     */
+    State newCall() {
+        if (budget != null) {
+            budget.recordRequest();
+        }
+        return new State();
+    }
+
+    /**
+     * Returns the delay in milliseconds before retrying {@code e}, or {@link #NO_RETRY}.
+     */
+    long nextDelay(AllscreenshotsException e, State state) {
+        if (!isRetryable(e) || state.retries >= config.getMaxRetries(e)) {
+            return NO_RETRY;
+        }
+
+        long delay = config.getDelayForAttempt(state.retries, state.previousDelayMs);
+        if (e instanceof RateLimitException && ((RateLimitException) e).getRetryAfter() != null) {
+            long retryAfterMs = TimeUnit.SECONDS.toMillis(((RateLimitException) e).getRetryAfter());
+            if (retryAfterMs > config.getMaxRetryAfter().toMillis()) {
+                return NO_RETRY;
+            }
+            delay = Math.max(delay, retryAfterMs);
+        }
+
+        if (budget != null && !budget.tryWithdraw()) {
+            return NO_RETRY;
+        }
+        state.retries++;
+        state.previousDelayMs = delay;
+        return delay;
+    }
+
+    static boolean isRetryable(AllscreenshotsException e) {
+        if (e instanceof RateLimitException || e instanceof NetworkException) {
+            return true;
+        }
+        // Only retry on 5xx errors
+        return e instanceof ApiException && e.getStatusCode() != null && e.getStatusCode() >= 500;
+    }
+
+    /**
+     * Retry progress of one call.
+     */
+    static final class State {
+        private int retries;
+        private long previousDelayMs;
+    }
+
+    /**
+     * Sliding-window count of calls and retries, split into ten slots.
+     */
+    static final class RetryBudget {
+
+        private static final int SLOTS = 10;
+
+        private final double ratio;
+        private final int minRetries;
+        private final long slotNanos;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] requests = new long[SLOTS];
+        private final long[] retries = new long[SLOTS];
+        private long currentSlot;
+
+        RetryBudget(RetryConfig config) {
+            this.ratio = config.getRetryBudgetRatio();
+            this.minRetries = config.getMinRetriesPerWindow();
+            this.slotNanos = Math.max(1, config.getRetryBudgetWindow().toNanos() / SLOTS);
+            this.currentSlot = System.nanoTime() / slotNanos;
+        }
+
+        void recordRequest() {
+            lock.lock();
+            try {
+                advance();
+                requests[Math.floorMod(currentSlot, SLOTS)]++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean tryWithdraw() {
+            lock.lock();
+            try {
+                advance();
+                long totalRequests = 0;
+                long totalRetries = 0;
+                for (int i = 0; i < SLOTS; i++) {
+                    totalRequests += requests[i];
+                    totalRetries += retries[i];
+                }
+                if (totalRetries >= Math.max(minRetries, (long) (totalRequests * ratio))) {
+                    return false;
+                }
+                retries[Math.floorMod(currentSlot, SLOTS)]++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Called with the lock held; clears the slots that slid out of the window
+        private void advance() {
+            long slot = System.nanoTime() / slotNanos;
+            long stale = Math.min(SLOTS, slot - currentSlot);
+            for (long i = 1; i <= stale; i++) {
+                int index = Math.floorMod(currentSlot + i, SLOTS);
+                requests[index] = 0;
+                retries[index] = 0;
+            }
+            if (slot > currentSlot) {
+                currentSlot = slot;
+            }
+        }
+    }
+}
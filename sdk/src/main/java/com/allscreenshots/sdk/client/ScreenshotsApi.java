@@ -1,8 +1,18 @@
 package com.allscreenshots.sdk.client;
 
+import com.allscreenshots.sdk.cache.CacheMode;
+import com.allscreenshots.sdk.exception.JobFailedException;
+import com.allscreenshots.sdk.exception.JobTimeoutException;
 import com.allscreenshots.sdk.model.*;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -24,24 +34,109 @@ import java.util.List;
  *         .url("https://example.com")
  *         .build()
  * );
+ *
+ * // Wait for the job's result
+ * byte[] result = client.screenshots().awaitResult(job.getId(), Duration.ofMinutes(1));
  * }</pre>
  */
 public class ScreenshotsApi {
 
     private final HttpClient httpClient;
+    private final AsyncScreenshotsApi asyncApi;
 
-    ScreenshotsApi(HttpClient httpClient) {
+    ScreenshotsApi(HttpClient httpClient, AsyncScreenshotsApi asyncApi) {
         this.httpClient = httpClient;
+        this.asyncApi = asyncApi;
     }
 
     /**
      * Captures a screenshot synchronously and returns the image bytes.
      *
+     * <p>With {@code coalesceCaptures} enabled, a capture of a request equal to one already in
+     * flight waits for it and returns the same array, which must then not be modified.</p>
+     *
      * @param request the screenshot request
      * @return the screenshot image as bytes
      */
     public byte[] capture(ScreenshotRequest request) {
-        return httpClient.postForBinary("/v1/screenshots", request);
+        return capture(request, CacheMode.USE);
+    }
+
+    /**
+     * Captures a screenshot synchronously, using the result cache as {@code mode} says.
+     *
+     * <p>Without a result cache configured, this is the same as {@link #capture(ScreenshotRequest)}.</p>
+     *
+     * @param request the screenshot request
+     * @param mode whether to read and update the result cache
+     * @return the screenshot image as bytes
+     */
+    public byte[] capture(ScreenshotRequest request, CacheMode mode) {
+        return httpClient.postForBinaryShared("/v1/screenshots", request, AsyncScreenshotsApi.WEBHOOK_PROPERTIES, mode);
+    }
+
+    /**
+     * Captures a screenshot synchronously and streams the image into {@code out}.
+     *
+     * <p>The image is copied in small segments rather than buffered in memory. The stream is
+     * flushed but not closed. Transient failures are only retried before the first byte has been
+     * written to {@code out}.</p>
+     *
+     * @param request the screenshot request
+     * @param out the stream to write the image to
+     * @return the number of bytes written
+     */
+    public long capture(ScreenshotRequest request, OutputStream out) {
+        return httpClient.postForStream("/v1/screenshots", request, out);
+    }
+
+    /**
+     * Captures a screenshot synchronously and streams the image into a file.
+     *
+     * <p>Equivalent to {@link #captureToFile(ScreenshotRequest, Path, OpenOption...)} with no
+     * options; an existing file is replaced.</p>
+     *
+     * @param request the screenshot request
+     * @param target the file to write the image to
+     * @return the number of bytes written
+     */
+    public long captureTo(ScreenshotRequest request, Path target) {
+        return captureToFile(request, target).getBytesWritten();
+    }
+
+    /**
+     * Captures a screenshot synchronously and writes it to a file without buffering it on the heap.
+     *
+     * <p>The image is moved from the socket into a {@link java.nio.channels.FileChannel} through
+     * pooled direct buffers. It is written to a temporary file in the target's directory and
+     * atomically renamed into place when complete, so readers never see a partial image.</p>
+     *
+     * <p>Supported options: {@link StandardOpenOption#CREATE_NEW} fails if the target already
+     * exists, {@link StandardOpenOption#SYNC} and {@link StandardOpenOption#DSYNC} force the data
+     * to storage before the rename. {@link StandardOpenOption#APPEND} is rejected; other options
+     * are ignored.</p>
+     *
+     * @param request the screenshot request
+     * @param target the file to write the image to
+     * @param options options controlling how the target is written
+     * @return the bytes written and timing of the capture
+     */
+    public FileCaptureResult captureToFile(ScreenshotRequest request, Path target, OpenOption... options) {
+        return httpClient.postForFile("/v1/screenshots", request, target, options);
+    }
+
+    /**
+     * Captures a screenshot synchronously and returns the image as a stream.
+     *
+     * <p>The caller must close the returned stream to release the underlying connection.
+     * Transient failures are retried until the response has been accepted; errors while reading
+     * the stream surface as {@link IOException}s from the stream itself.</p>
+     *
+     * @param request the screenshot request
+     * @return the screenshot image as a stream
+     */
+    public InputStream captureStream(ScreenshotRequest request) {
+        return httpClient.postForInputStream("/v1/screenshots", request);
     }
 
     /**
@@ -54,14 +149,67 @@ public class ScreenshotsApi {
         return httpClient.post("/v1/screenshots/async", request, AsyncJobCreatedResponse.class);
     }
 
+    /**
+     * Starts an asynchronous screenshot job and waits for its result image.
+     *
+     * <p>Waits up to 5 minutes for the job to finish.</p>
+     *
+     * @param request the screenshot request
+     * @return the screenshot image as bytes
+     * @see #awaitResult(String, Duration)
+     */
+    public byte[] captureAsyncAndAwait(ScreenshotRequest request) {
+        return Futures.await(asyncApi.captureAsyncAndAwait(request));
+    }
+
+    /**
+     * Starts an asynchronous screenshot job and waits for its result image.
+     *
+     * @param request the screenshot request
+     * @param timeout the maximum time to wait for the job to finish
+     * @return the screenshot image as bytes
+     * @see #awaitResult(String, Duration)
+     */
+    public byte[] captureAsyncAndAwait(ScreenshotRequest request, Duration timeout) {
+        return Futures.await(asyncApi.captureAsyncAndAwait(request, timeout));
+    }
+
+    /**
+     * Waits for a job to complete and returns its result image.
+     *
+     * <p>Job status is polled with adaptive backoff: the first poll is timed for when jobs
+     * typically finish, based on recent history, and later polls back off exponentially. Polling
+     * runs on a shared scheduler, so only the calling thread waits.</p>
+     *
+     * @param jobId the job ID
+     * @param timeout the maximum time to wait
+     * @return the screenshot image as bytes
+     * @throws JobFailedException if the job fails or is cancelled
+     * @throws JobTimeoutException if the job does not finish within the timeout
+     */
+    public byte[] awaitResult(String jobId, Duration timeout) {
+        return Futures.await(asyncApi.awaitResult(jobId, timeout));
+    }
+
+    /**
+     * Returns the shared tracker for screenshot jobs.
+     *
+     * <p>The tracker refreshes every tracked job with a single {@link #listJobs()} call every
+     * two seconds, so request volume does not grow with the number of outstanding jobs.</p>
+     *
+     * @return the job tracker
+     */
+    public JobTracker<JobResponse> jobTracker() {
+        return asyncApi.jobTracker();
+    }
+
     /**
      * Lists all screenshot jobs.
      *
      * @return list of jobs
      */
     public List<JobResponse> listJobs() {
-        return httpClient.get("/v1/screenshots/jobs",
-            httpClient.getObjectMapper().getTypeFactory().constructCollectionType(List.class, JobResponse.class));
+        return httpClient.get("/v1/screenshots/jobs", httpClient.listOf(JobResponse.class));
     }
 
     /**
@@ -81,7 +229,54 @@ public class ScreenshotsApi {
      * @return the screenshot image as bytes
      */
     public byte[] getJobResult(String jobId) {
-        return httpClient.getBinary("/v1/screenshots/jobs/" + jobId + "/result");
+        return getJobResult(jobId, CacheMode.USE);
+    }
+
+    /**
+     * Gets the result image of a completed job, using the result cache as {@code mode} says.
+     *
+     * @param jobId the job ID
+     * @param mode whether to read and update the result cache
+     * @return the screenshot image as bytes
+     */
+    public byte[] getJobResult(String jobId, CacheMode mode) {
+        return httpClient.getBinaryCached("/v1/screenshots/jobs/" + jobId + "/result", mode);
+    }
+
+    /**
+     * Streams the result image of a completed job into {@code out}.
+     *
+     * @param jobId the job ID
+     * @param out the stream to write the image to
+     * @return the number of bytes written
+     */
+    public long getJobResult(String jobId, OutputStream out) {
+        return httpClient.getStream("/v1/screenshots/jobs/" + jobId + "/result", out);
+    }
+
+    /**
+     * Writes the result image of a completed job to a file without buffering it on the heap.
+     *
+     * @param jobId the job ID
+     * @param target the file to write the image to
+     * @param options options controlling how the target is written
+     * @return the bytes written and timing of the download
+     * @see #captureToFile(ScreenshotRequest, Path, OpenOption...)
+     */
+    public FileCaptureResult getJobResultToFile(String jobId, Path target, OpenOption... options) {
+        return httpClient.getFile("/v1/screenshots/jobs/" + jobId + "/result", target, options);
+    }
+
+    /**
+     * Returns the result image of a completed job as a stream.
+     *
+     * <p>The caller must close the returned stream to release the underlying connection.</p>
+     *
+     * @param jobId the job ID
+     * @return the screenshot image as a stream
+     */
+    public InputStream getJobResultStream(String jobId) {
+        return httpClient.getInputStream("/v1/screenshots/jobs/" + jobId + "/result");
     }
 
     /**
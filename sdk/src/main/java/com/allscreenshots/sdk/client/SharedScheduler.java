@@ -0,0 +1,30 @@
+package com.allscreenshots.sdk.client;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide timer for delayed SDK work such as async retries and job polling.
+ *
+ * <p>Scheduled tasks only hand work to OkHttp's dispatcher and never block, so a couple of daemon
+ * threads serve any number of outstanding requests or jobs.</p>
+ */
+final class SharedScheduler {
+
+    static final ScheduledExecutorService INSTANCE = create();
+
+    private SharedScheduler() {
+    }
+
+    private static ScheduledExecutorService create() {
+        AtomicInteger counter = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "allscreenshots-scheduler-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,64 @@
+package com.allscreenshots.sdk.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight call, and its result, between concurrent callers with the same key.
+ *
+ * <p>The first caller for a key runs the call; callers arriving while it is in flight wait for
+ * its outcome instead, success or failure alike. The key is forgotten as soon as the call ends, so
+ * results are never cached. Followers get a copy of the shared future: cancelling it, or being
+ * interrupted while waiting, leaves the call running for the others.</p>
+ */
+final class SingleFlight<V> {
+
+    private final ConcurrentMap<String, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    V execute(String key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            return Futures.await(leader.copy());
+        }
+
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    CompletableFuture<V> executeAsync(String key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            return leader.copy();
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, error) -> {
+            flights.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(Futures.unwrap(error));
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.copy();
+    }
+}
@@ -0,0 +1,44 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.model.ComposeResponse;
+import com.allscreenshots.sdk.model.ScheduleExecutionResponse;
+import com.allscreenshots.sdk.tracing.AttemptTrace;
+import com.allscreenshots.sdk.tracing.CallTrace;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-call tracing state, attached to the {@code Request} as a tag so that
+ * {@link TracingInterceptor} can find it on every attempt, including async retries.
+ */
+final class TracedCall {
+
+    private final CallTrace trace;
+    private final AtomicInteger attempts = new AtomicInteger();
+    private volatile long backoffMillis;
+
+    TracedCall(CallTrace trace) {
+        this.trace = trace;
+    }
+
+    AttemptTrace startAttempt() {
+        return trace.startAttempt(attempts.getAndIncrement(), backoffMillis);
+    }
+
+    /**
+     * Remembers the delay before the next attempt, which reports it.
+     */
+    void backoff(long millis) {
+        backoffMillis = millis;
+    }
+
+    void end(Object result, Throwable error) {
+        Long renderTime = result instanceof ComposeResponse compose ? compose.getRenderTimeMs()
+                : result instanceof ScheduleExecutionResponse execution ? execution.getRenderTimeMs()
+                : null;
+        if (renderTime != null) {
+            trace.renderTime(renderTime);
+        }
+        trace.end(error);
+    }
+}
@@ -0,0 +1,121 @@
+package com.allscreenshots.sdk.client;
+
+import com.allscreenshots.sdk.tracing.AttemptTrace;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+
+import java.io.IOException;
+
+/**
+ * Turns every HTTP call tagged with a {@link TracedCall} into an {@link AttemptTrace}, injects
+ * the trace context into its headers, and ends the attempt when the response body is closed.
+ * Requests without the tag, such as result downloads, pass through untouched.
+ */
+final class TracingInterceptor implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        TracedCall call = request.tag(TracedCall.class);
+        if (call == null) {
+            return chain.proceed(request);
+        }
+
+        AttemptTrace attempt = call.startAttempt();
+        Request.Builder traced = request.newBuilder();
+        attempt.inject(traced::header);
+
+        Response response;
+        try {
+            response = chain.proceed(traced.build());
+        } catch (IOException | RuntimeException e) {
+            attempt.end(-1, e);
+            throw e;
+        }
+
+        attempt.responseReceived(response.code());
+        ResponseBody body = response.body();
+        if (body == null) {
+            attempt.end(0, null);
+            return response;
+        }
+        return response.newBuilder()
+                .body(new TracedBody(body, attempt))
+                .build();
+    }
+
+    private static final class TracedBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final AttemptTrace attempt;
+        private BufferedSource source;
+
+        TracedBody(ResponseBody delegate, AttemptTrace attempt) {
+            this.delegate = delegate;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            if (source == null) {
+                source = Okio.buffer(new CountingSource(delegate.source()));
+            }
+            return source;
+        }
+
+        private final class CountingSource extends ForwardingSource {
+
+            private long bytesRead;
+            private IOException error;
+            private boolean ended;
+
+            CountingSource(Source delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                try {
+                    long read = super.read(sink, byteCount);
+                    if (read != -1) {
+                        bytesRead += read;
+                    }
+                    return read;
+                } catch (IOException e) {
+                    error = e;
+                    throw e;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!ended) {
+                        ended = true;
+                        attempt.end(bytesRead, error);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.allscreenshots.sdk.exception;
+
+import com.allscreenshots.sdk.util.EndpointFamily;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a call is rejected because the circuit breaker of its endpoint family
+ * is open.
+ *
+ * <p>The request was never sent. This is raised by the client itself after recent attempts to
+ * the same endpoint family failed or were too slow, and is not retried.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try {
+ *     byte[] screenshot = client.screenshots().capture(request);
+ * } catch (CircuitBreakerOpenException e) {
+ *     // Serve a fallback until the API recovers
+ *     System.err.println("Captures unavailable for another " + e.getRemainingOpenTime());
+ * }
+ * }</pre>
+ */
+public class CircuitBreakerOpenException extends AllscreenshotsException {
+
+    private final EndpointFamily family;
+    private final Duration remainingOpenTime;
+
+    /**
+     * Creates a new circuit breaker open exception.
+     *
+     * @param message the error message
+     * @param family the endpoint family whose circuit is open
+     * @param remainingOpenTime the time until the circuit lets probe requests through
+     */
+    public CircuitBreakerOpenException(String message, EndpointFamily family, Duration remainingOpenTime) {
+        super(message, "CIRCUIT_BREAKER_OPEN", null);
+        this.family = family;
+        this.remainingOpenTime = remainingOpenTime;
+    }
+
+    /**
+     * Returns the endpoint family whose circuit rejected the call.
+     *
+     * @return the endpoint family
+     */
+    public EndpointFamily getFamily() {
+        return family;
+    }
+
+    /**
+     * Returns the time until the circuit lets probe requests through. Zero when the circuit is
+     * already half-open and all probe slots are taken.
+     *
+     * @return the remaining open time
+     */
+    public Duration getRemainingOpenTime() {
+        return remainingOpenTime;
+    }
+}
@@ -0,0 +1,42 @@
+package com.allscreenshots.sdk.exception;
+
+/**
+ * Exception thrown when the client's adaptive concurrency limit is reached and no slot becomes
+ * free within the configured wait.
+ *
+ * <p>The request was never sent. This is raised by the client itself, not by the API, and is
+ * not retried.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try {
+ *     byte[] screenshot = client.screenshots().capture(request);
+ * } catch (ConcurrencyLimitException e) {
+ *     // Shed the work or try again later
+ * }
+ * }</pre>
+ */
+public class ConcurrencyLimitException extends AllscreenshotsException {
+
+    private final int limit;
+
+    /**
+     * Creates a new concurrency limit exception.
+     *
+     * @param message the error message
+     * @param limit the concurrency limit in effect
+     */
+    public ConcurrencyLimitException(String message, int limit) {
+        super(message, "CONCURRENCY_LIMIT_EXCEEDED", null);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the concurrency limit in effect when the request was rejected.
+     *
+     * @return the number of requests allowed in flight
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
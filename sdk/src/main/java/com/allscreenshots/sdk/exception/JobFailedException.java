@@ -0,0 +1,54 @@
+package com.allscreenshots.sdk.exception;
+
+/**
+ * Exception thrown when waiting for an asynchronous job that ends without a result.
+ *
+ * <p>This exception is thrown when a job reaches the {@code FAILED} or {@code CANCELLED} status
+ * while the SDK is waiting for it to complete.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try {
+ *     byte[] screenshot = client.screenshots().captureAsyncAndAwait(request);
+ * } catch (JobFailedException e) {
+ *     System.err.println("Job " + e.getJobId() + " ended as " + e.getJobStatus());
+ * }
+ * }</pre>
+ */
+public class JobFailedException extends AllscreenshotsException {
+
+    private final String jobId;
+    private final String jobStatus;
+
+    /**
+     * Creates a new job failed exception.
+     *
+     * @param message the error message
+     * @param errorCode the error code reported for the job
+     * @param jobId the job ID
+     * @param jobStatus the terminal job status
+     */
+    public JobFailedException(String message, String errorCode, String jobId, String jobStatus) {
+        super(message, errorCode != null ? errorCode : "JOB_" + jobStatus, null);
+        this.jobId = jobId;
+        this.jobStatus = jobStatus;
+    }
+
+    /**
+     * Returns the ID of the job that failed.
+     *
+     * @return the job ID
+     */
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Returns the terminal status of the job.
+     *
+     * @return the status, typically "FAILED" or "CANCELLED"
+     */
+    public String getJobStatus() {
+        return jobStatus;
+    }
+}
@@ -0,0 +1,40 @@
+package com.allscreenshots.sdk.exception;
+
+/**
+ * Exception thrown when an asynchronous job does not finish within the time allowed.
+ *
+ * <p>The job itself keeps running on the server and can still be polled or cancelled.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * try {
+ *     byte[] screenshot = client.screenshots().awaitResult(jobId, Duration.ofMinutes(1));
+ * } catch (JobTimeoutException e) {
+ *     client.screenshots().cancelJob(e.getJobId());
+ * }
+ * }</pre>
+ */
+public class JobTimeoutException extends AllscreenshotsException {
+
+    private final String jobId;
+
+    /**
+     * Creates a new job timeout exception.
+     *
+     * @param message the error message
+     * @param jobId the job ID
+     */
+    public JobTimeoutException(String message, String jobId) {
+        super(message, "JOB_TIMEOUT", null);
+        this.jobId = jobId;
+    }
+
+    /**
+     * Returns the ID of the job that did not finish in time.
+     *
+     * @return the job ID
+     */
+    public String getJobId() {
+        return jobId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.allscreenshots.sdk.metrics;
+
+/**
+ * Live view of a client's connection pool and request load, for gauges.
+ *
+ * <p>Each method reads the current value; nothing is buffered, so gauges can sample it as often
+ * as they like.</p>
+ */
+public interface ClientStats {
+
+    /**
+     * Returns the number of open connections, busy or idle.
+     *
+     * @return the connection count
+     */
+    int connectionCount();
+
+    /**
+     * Returns the number of open connections not serving a request.
+     *
+     * @return the idle connection count
+     */
+    int idleConnectionCount();
+
+    /**
+     * Returns the number of requests currently in flight, blocking and non-blocking.
+     *
+     * @return the in-flight request count
+     */
+    int inFlightRequests();
+
+    /**
+     * Returns the number of non-blocking requests waiting for a dispatcher slot.
+     *
+     * @return the queued request count
+     */
+    int queuedRequests();
+}
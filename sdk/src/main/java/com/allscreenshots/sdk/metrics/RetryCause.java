@@ -0,0 +1,22 @@
+package com.allscreenshots.sdk.metrics;
+
+/**
+ * Why a request was retried.
+ */
+public enum RetryCause {
+
+    /**
+     * The API answered 429 ({@code RateLimitException}).
+     */
+    RATE_LIMIT,
+
+    /**
+     * The request failed at the network level ({@code NetworkException}).
+     */
+    NETWORK,
+
+    /**
+     * The API answered with a 5xx status ({@code ApiException}).
+     */
+    SERVER_ERROR
+}
@@ -0,0 +1,94 @@
+package com.allscreenshots.sdk.metrics;
+
+import com.allscreenshots.sdk.util.CircuitState;
+import com.allscreenshots.sdk.util.EndpointFamily;
+
+/**
+ * Receives measurements of the SDK's HTTP traffic.
+ *
+ * <p>Set an implementation with {@code AllscreenshotsClient.Builder.metrics(...)}. The default,
+ * {@link #NOOP}, is recognised by the client, which then skips instrumentation entirely, so
+ * disabled metrics add no allocation or work per request. Every method has an empty default,
+ * so implementations override only what they record.</p>
+ *
+ * <p>Endpoints are path templates such as {@code /v1/screenshots/bulk/{id}}, so each endpoint
+ * produces one time series regardless of IDs. Downloads from result URLs on other hosts are
+ * reported as {@code download}.</p>
+ *
+ * <p>Methods are called on the threads that run requests and must be thread-safe and fast.</p>
+ *
+ * <pre>{@code
+ * AllscreenshotsClient client = AllscreenshotsClient.builder()
+ *     .metrics(new MicrometerSdkMetrics(meterRegistry))
+ *     .build();
+ * }</pre>
+ */
+public interface SdkMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    SdkMetrics NOOP = new SdkMetrics() {
+    };
+
+    /**
+     * Called once when a client is built, with live pool and load statistics for gauges.
+     *
+     * <p>Called once per client, so an instance shared between clients, for example through
+     * {@code newBuilder()}, is bound several times and should keep the clients apart. The client
+     * keeps {@code stats} reachable, so it may be held weakly.</p>
+     *
+     * @param stats the client's statistics
+     */
+    default void bindClientStats(ClientStats stats) {
+    }
+
+    /**
+     * Records one HTTP attempt. Retries are recorded as separate attempts.
+     *
+     * @param method the HTTP method
+     * @param endpoint the endpoint template
+     * @param status the HTTP status, or 0 if no response was received
+     * @param durationNanos the time from starting the call until the response body was consumed
+     *                      or the call failed
+     */
+    default void requestCompleted(String method, String endpoint, int status, long durationNanos) {
+    }
+
+    /**
+     * Records request body bytes sent.
+     *
+     * @param endpoint the endpoint template
+     * @param bytes the number of bytes
+     */
+    default void bytesSent(String endpoint, long bytes) {
+    }
+
+    /**
+     * Records response body bytes received.
+     *
+     * @param endpoint the endpoint template
+     * @param bytes the number of bytes
+     */
+    default void bytesReceived(String endpoint, long bytes) {
+    }
+
+    /**
+     * Records that a failed attempt is about to be retried.
+     *
+     * @param endpoint the endpoint template
+     * @param cause why the attempt failed
+     */
+    default void retry(String endpoint, RetryCause cause) {
+    }
+
+    /**
+     * Records the state of an endpoint family's circuit breaker. Called with {@code CLOSED} for
+     * each circuit when the client is built, then on every state change.
+     *
+     * @param family the endpoint family
+     * @param state the new state
+     */
+    default void circuitStateChanged(EndpointFamily family, CircuitState state) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.allscreenshots.sdk.metrics.micrometer;
+
+import com.allscreenshots.sdk.metrics.ClientStats;
+import com.allscreenshots.sdk.metrics.RetryCause;
+import com.allscreenshots.sdk.metrics.SdkMetrics;
+import com.allscreenshots.sdk.util.CircuitState;
+import com.allscreenshots.sdk.util.EndpointFamily;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link SdkMetrics} backed by a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Requires {@code io.micrometer:micrometer-core}, which the SDK declares as an optional
+ * dependency. Request it through the SDK's {@code micrometer} feature variant or add it
+ * directly.</p>
+ *
+ * <p>Meters:</p>
+ * <ul>
+ *   <li>{@code allscreenshots.client.requests} timer, tagged {@code method}, {@code endpoint},
+ *       {@code status} and {@code outcome}</li>
+ *   <li>{@code allscreenshots.client.request.size} and {@code allscreenshots.client.response.size}
+ *       summaries in bytes, tagged {@code endpoint}</li>
+ *   <li>{@code allscreenshots.client.retries} counter, tagged {@code endpoint} and {@code cause}</li>
+ *   <li>{@code allscreenshots.client.connections} and {@code allscreenshots.client.connections.idle}
+ *       gauges</li>
+ *   <li>{@code allscreenshots.client.requests.active} and
+ *       {@code allscreenshots.client.requests.queued} gauges</li>
+ *   <li>{@code allscreenshots.client.circuit.state} gauges, tagged {@code family} and
+ *       {@code state}, which read 1 for each circuit's current state and 0 otherwise, and the
+ *       {@code allscreenshots.client.circuit.transitions} counter, tagged {@code family} and
+ *       {@code state}</li>
+ * </ul>
+ *
+ * <p>The connection and request gauges are registered once per client and tagged
+ * {@code client.instance} with the order in which clients were bound to this instance, so clients
+ * sharing it, such as those made with {@code newBuilder()}, are reported separately. The gauges hold
+ * their client weakly and read NaN once it has been garbage collected.</p>
+ *
+ * <pre>{@code
+ * AllscreenshotsClient client = AllscreenshotsClient.builder()
+ *     .metrics(new MicrometerSdkMetrics(meterRegistry, Tags.of("tenant", "acme")))
+ *     .build();
+ * }</pre>
+ */
+public class MicrometerSdkMetrics implements SdkMetrics {
+
+    private static final String CLIENT_INSTANCE_TAG = "client.instance";
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Map<EndpointFamily, AtomicReference<CircuitState>> circuitStates = new ConcurrentHashMap<>();
+    private final AtomicInteger boundClients = new AtomicInteger();
+
+    public MicrometerSdkMetrics(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * @param registry the registry to publish to
+     * @param tags tags added to every meter, for example to tell clients apart
+     */
+    public MicrometerSdkMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+        this.registry = registry;
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public void bindClientStats(ClientStats stats) {
+        Tags clientTags = tags.and(CLIENT_INSTANCE_TAG, Integer.toString(boundClients.incrementAndGet()));
+        Gauge.builder("allscreenshots.client.connections", stats, ClientStats::connectionCount)
+                .description("Open connections in the client's pool")
+                .tags(clientTags)
+                .register(registry);
+        Gauge.builder("allscreenshots.client.connections.idle", stats, ClientStats::idleConnectionCount)
+                .description("Idle connections in the client's pool")
+                .tags(clientTags)
+                .register(registry);
+        Gauge.builder("allscreenshots.client.requests.active", stats, ClientStats::inFlightRequests)
+                .description("Requests in flight")
+                .tags(clientTags)
+                .register(registry);
+        Gauge.builder("allscreenshots.client.requests.queued", stats, ClientStats::queuedRequests)
+                .description("Non-blocking requests waiting for a dispatcher slot")
+                .tags(clientTags)
+                .register(registry);
+    }
+
+    @Override
+    public void requestCompleted(String method, String endpoint, int status, long durationNanos) {
+        Timer.builder("allscreenshots.client.requests")
+                .description("HTTP attempts made by the client")
+                .tags(tags)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .tag("status", status > 0 ? Integer.toString(status) : "IO_ERROR")
+                .tag("outcome", outcome(status))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void bytesSent(String endpoint, long bytes) {
+        DistributionSummary.builder("allscreenshots.client.request.size")
+                .baseUnit("bytes")
+                .tags(tags)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(bytes);
+    }
+
+    @Override
+    public void bytesReceived(String endpoint, long bytes) {
+        DistributionSummary.builder("allscreenshots.client.response.size")
+                .baseUnit("bytes")
+                .tags(tags)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(bytes);
+    }
+
+    @Override
+    public void retry(String endpoint, RetryCause cause) {
+        Counter.builder("allscreenshots.client.retries")
+                .description("Attempts retried by the client")
+                .tags(tags)
+                .tag("endpoint", endpoint)
+                .tag("cause", cause.name())
+                .register(registry)
+                .increment();
+    }
+
+    @Override
+    public void circuitStateChanged(EndpointFamily family, CircuitState state) {
+        AtomicReference<CircuitState> current = circuitStates.computeIfAbsent(family, this::registerCircuitGauges);
+        if (current.getAndSet(state) != state) {
+            Counter.builder("allscreenshots.client.circuit.transitions")
+                    .description("Circuit breaker state changes")
+                    .tags(tags)
+                    .tag("family", family.name())
+                    .tag("state", state.name())
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    private AtomicReference<CircuitState> registerCircuitGauges(EndpointFamily family) {
+        AtomicReference<CircuitState> current = new AtomicReference<>(CircuitState.CLOSED);
+        for (CircuitState state : CircuitState.values()) {
+            Gauge.builder("allscreenshots.client.circuit.state", current, c -> c.get() == state ? 1 : 0)
+                    .description("Circuit breaker state, 1 for the current state")
+                    .tags(tags)
+                    .tag("family", family.name())
+                    .tag("state", state.name())
+                    .strongReference(true)
+                    .register(registry);
+        }
+        return current;
+    }
+
+    private static String outcome(int status) {
+        if (status == 0) {
+            return "UNKNOWN";
+        }
+        if (status < 300) {
+            return "SUCCESS";
+        }
+        if (status < 400) {
+            return "REDIRECTION";
+        }
+        return status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -70,4 +70,8 @@ public class BulkJobDetailInfo {
     public String getErrorMessage() { return errorMessage; }
     public OffsetDateTime getCreatedAt() { return createdAt; }
     public OffsetDateTime getCompletedAt() { return completedAt; }
+
+    public boolean isCompleted() {
+        return "COMPLETED".equalsIgnoreCase(status);
+    }
 }
@@ -24,6 +24,11 @@ import java.util.List;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class BulkRequest {
 
+    /**
+     * The maximum number of URLs the API accepts in a single bulk request.
+     */
+    public static final int MAX_URLS = 100;
+
     @JsonProperty("urls")
     private List<BulkUrlRequest> urls;
 
@@ -66,6 +71,29 @@ public class BulkRequest {
         return webhookSecret;
     }
 
+    /**
+     * Splits this request into requests of at most {@code chunkSize} URLs each, in order.
+     * Defaults and webhook settings are carried into every chunk.
+     *
+     * @param chunkSize the maximum number of URLs per chunk (1 to {@link #MAX_URLS})
+     * @return the chunks
+     */
+    public List<BulkRequest> split(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_URLS) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_URLS);
+        }
+        List<BulkRequest> chunks = new ArrayList<>();
+        for (int from = 0; from < urls.size(); from += chunkSize) {
+            Builder chunk = builder()
+                    .urls(urls.subList(from, Math.min(from + chunkSize, urls.size())))
+                    .defaults(defaults)
+                    .webhookUrl(webhookUrl)
+                    .webhookSecret(webhookSecret);
+            chunks.add(new BulkRequest(chunk));
+        }
+        return chunks;
+    }
+
     public static class Builder {
         private List<BulkUrlRequest> urls = new ArrayList<>();
         private BulkDefaults defaults;
@@ -103,13 +131,28 @@ public class BulkRequest {
         }
 
         public BulkRequest build() {
+            requireUrls();
+            if (urls.size() > MAX_URLS) {
+                throw new IllegalArgumentException("Maximum " + MAX_URLS + " URLs allowed");
+            }
+            return new BulkRequest(this);
+        }
+
+        /**
+         * Builds a request without the {@link #MAX_URLS} limit, to be submitted with
+         * {@code BulkApi.createChunked}.
+         *
+         * @return the request
+         */
+        public BulkRequest buildForChunking() {
+            requireUrls();
+            return new BulkRequest(this);
+        }
+
+        private void requireUrls() {
             if (urls == null || urls.isEmpty()) {
                 throw new IllegalArgumentException("At least one URL is required");
             }
-            if (urls.size() > 100) {
-                throw new IllegalArgumentException("Maximum 100 URLs allowed");
-            }
-            return new BulkRequest(this);
         }
     }
 }
@@ -0,0 +1,134 @@
+package com.allscreenshots.sdk.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Combined status of the bulk jobs created for one chunked bulk request.
+ */
+public class ChunkedBulkStatus {
+
+    private final List<BulkStatusResponse> children;
+    private final String status;
+    private final int totalJobs;
+    private final int completedJobs;
+    private final int failedJobs;
+
+    public ChunkedBulkStatus(List<BulkStatusResponse> children) {
+        this.children = Collections.unmodifiableList(new ArrayList<>(children));
+        int total = 0;
+        int completed = 0;
+        int failed = 0;
+        for (BulkStatusResponse child : children) {
+            total += valueOf(child.getTotalJobs());
+            completed += valueOf(child.getCompletedJobs());
+            failed += valueOf(child.getFailedJobs());
+        }
+        this.totalJobs = total;
+        this.completedJobs = completed;
+        this.failedJobs = failed;
+        this.status = combinedStatus(children);
+    }
+
+    /**
+     * Returns the combined status: {@code PROCESSING} while any child bulk job is still running,
+     * the shared status once all have finished with the same status, and otherwise
+     * {@code COMPLETED} if any child completed or {@code FAILED} if none did.
+     *
+     * @return the combined status
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public int getTotalJobs() {
+        return totalJobs;
+    }
+
+    public int getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public int getFailedJobs() {
+        return failedJobs;
+    }
+
+    /**
+     * Returns the share of jobs that have finished, across all child bulk jobs.
+     *
+     * @return progress from 0 to 100
+     */
+    public int getProgress() {
+        return totalJobs > 0 ? (completedJobs + failedJobs) * 100 / totalJobs : 0;
+    }
+
+    /**
+     * Returns whether every child bulk job has finished.
+     *
+     * @return true if no child bulk job is still running
+     */
+    public boolean isFinished() {
+        return !"PROCESSING".equals(status);
+    }
+
+    /**
+     * Returns the jobs of every child bulk job, in submission order.
+     *
+     * @return all jobs
+     */
+    public List<BulkJobDetailInfo> getJobs() {
+        List<BulkJobDetailInfo> jobs = new ArrayList<>();
+        for (BulkStatusResponse child : children) {
+            if (child.getJobs() != null) {
+                jobs.addAll(child.getJobs());
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns the status of each child bulk job, in submission order.
+     *
+     * @return the child statuses
+     */
+    public List<BulkStatusResponse> getChildren() {
+        return children;
+    }
+
+    private static String combinedStatus(List<BulkStatusResponse> children) {
+        String shared = null;
+        boolean mixed = false;
+        boolean anyCompleted = false;
+        for (BulkStatusResponse child : children) {
+            String status = child.getStatus();
+            if (!isTerminal(status)) {
+                return "PROCESSING";
+            }
+            anyCompleted |= "COMPLETED".equalsIgnoreCase(status);
+            if (shared == null) {
+                shared = status.toUpperCase(Locale.ROOT);
+            } else if (!shared.equalsIgnoreCase(status)) {
+                mixed = true;
+            }
+        }
+        if (shared == null) {
+            return "PROCESSING";
+        }
+        if (!mixed) {
+            return shared;
+        }
+        return anyCompleted ? "COMPLETED" : "FAILED";
+    }
+
+    private static boolean isTerminal(String status) {
+        return "COMPLETED".equalsIgnoreCase(status)
+                || "FAILED".equalsIgnoreCase(status)
+                || "CANCELLED".equalsIgnoreCase(status);
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.allscreenshots.sdk.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Summary of downloading the results of a bulk job.
+ */
+public class DownloadSummary {
+
+    private final int filesDownloaded;
+    private final long bytesDownloaded;
+    private final int jobsSkipped;
+    private final Duration elapsed;
+    private final Map<String, String> failures;
+
+    public DownloadSummary(int filesDownloaded, long bytesDownloaded, int jobsSkipped, Duration elapsed,
+                           Map<String, String> failures) {
+        this.filesDownloaded = filesDownloaded;
+        this.bytesDownloaded = bytesDownloaded;
+        this.jobsSkipped = jobsSkipped;
+        this.elapsed = elapsed;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns the number of result files written to disk.
+     *
+     * @return the number of downloaded files
+     */
+    public int getFilesDownloaded() {
+        return filesDownloaded;
+    }
+
+    /**
+     * Returns the total size of the downloaded files.
+     *
+     * @return the number of bytes on disk
+     */
+    public long getBytesDownloaded() {
+        return bytesDownloaded;
+    }
+
+    /**
+     * Returns the number of jobs that had no result to download because they failed or were cancelled.
+     *
+     * @return the number of skipped jobs
+     */
+    public int getJobsSkipped() {
+        return jobsSkipped;
+    }
+
+    /**
+     * Returns the wall-clock time of the whole download, including waiting for jobs to finish.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the average throughput over the elapsed time.
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos > 0 ? bytesDownloaded * 1_000_000_000.0 / nanos : 0;
+    }
+
+    /**
+     * Returns the downloads that failed, keyed by job ID.
+     *
+     * @return the error message for each failed download
+     */
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns whether every completed job was downloaded.
+     *
+     * @return true if no download failed
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
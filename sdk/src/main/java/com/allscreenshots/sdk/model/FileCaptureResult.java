@@ -0,0 +1,58 @@
+package com.allscreenshots.sdk.model;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Result of writing a screenshot directly to a file.
+ */
+public class FileCaptureResult {
+
+    private final Path path;
+    private final long bytesWritten;
+    private final Duration timeToFirstByte;
+    private final Duration totalTime;
+
+    public FileCaptureResult(Path path, long bytesWritten, Duration timeToFirstByte, Duration totalTime) {
+        this.path = path;
+        this.bytesWritten = bytesWritten;
+        this.timeToFirstByte = timeToFirstByte;
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Returns the file the screenshot was written to.
+     *
+     * @return the target path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of bytes written to the file.
+     *
+     * @return the file size in bytes
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the time from sending the request until the first image byte arrived.
+     *
+     * @return the time to first byte of the successful attempt
+     */
+    public Duration getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Returns the time from sending the request until the file was in place.
+     *
+     * @return the total time of the successful attempt
+     */
+    public Duration getTotalTime() {
+        return totalTime;
+    }
+}
@@ -0,0 +1,43 @@
+package com.allscreenshots.sdk.tracing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The trace of one HTTP attempt made for a {@link CallTrace}.
+ *
+ * <p>The attempt ends once the response body has been read and closed, or when the request
+ * fails, so its duration includes the download.</p>
+ */
+public interface AttemptTrace {
+
+    /**
+     * An attempt trace that records nothing.
+     */
+    AttemptTrace NOOP = new AttemptTrace() {
+    };
+
+    /**
+     * Writes the trace context into the outgoing request's headers.
+     *
+     * @param headers sets one request header
+     */
+    default void inject(BiConsumer<String, String> headers) {
+    }
+
+    /**
+     * Records the response status line.
+     *
+     * @param status the HTTP status
+     */
+    default void responseReceived(int status) {
+    }
+
+    /**
+     * Ends the attempt.
+     *
+     * @param responseBytes response body bytes read, or -1 if no response was received
+     * @param error the exception the attempt failed with, or {@code null}
+     */
+    default void end(long responseBytes, Throwable error) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.allscreenshots.sdk.tracing;
+
+/**
+ * The trace of one SDK call, spanning all of its attempts and the backoff between them.
+ *
+ * <p>Attempts of asynchronous calls start on OkHttp's dispatcher threads, so implementations
+ * must not rely on thread-local context between {@link SdkTracing#startCall} and
+ * {@link #startAttempt}.</p>
+ */
+public interface CallTrace {
+
+    /**
+     * A call trace that records nothing.
+     */
+    CallTrace NOOP = new CallTrace() {
+    };
+
+    /**
+     * Starts one HTTP attempt.
+     *
+     * @param attempt the attempt number, 0 for the first request
+     * @param backoffMillis how long the SDK waited before this attempt, 0 for the first request
+     * @return the attempt's trace
+     */
+    default AttemptTrace startAttempt(int attempt, long backoffMillis) {
+        return AttemptTrace.NOOP;
+    }
+
+    /**
+     * Records the server-side render time reported in the response.
+     *
+     * @param millis the render time in milliseconds
+     */
+    default void renderTime(long millis) {
+    }
+
+    /**
+     * Ends the call.
+     *
+     * @param error the exception the call failed with, or {@code null} if it succeeded
+     */
+    default void end(Throwable error) {
+    }
+}
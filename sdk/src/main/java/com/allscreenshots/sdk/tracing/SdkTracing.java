@@ -0,0 +1,39 @@
+package com.allscreenshots.sdk.tracing;
+
+/**
+ * Creates trace spans for SDK calls.
+ *
+ * <p>Set an implementation with {@code AllscreenshotsClient.Builder.tracing(...)}. Each SDK call,
+ * such as {@code screenshots().capture(...)}, becomes a {@link CallTrace}, and each HTTP attempt
+ * made for it, including retries, becomes an {@link AttemptTrace} underneath. The default,
+ * {@link #NOOP}, is recognised by the client, which then installs no interceptor and creates no
+ * objects per call.</p>
+ *
+ * <p>This interface has no tracing library types in it, so applications that do not use tracing
+ * need nothing extra on the classpath.</p>
+ *
+ * <pre>{@code
+ * AllscreenshotsClient client = AllscreenshotsClient.builder()
+ *     .tracing(new OpenTelemetrySdkTracing(openTelemetry))
+ *     .build();
+ * }</pre>
+ */
+public interface SdkTracing {
+
+    /**
+     * Tracing that records nothing.
+     */
+    SdkTracing NOOP = new SdkTracing() {
+    };
+
+    /**
+     * Starts the trace for one SDK call, on the thread that made the call.
+     *
+     * @param method the HTTP method
+     * @param endpoint the endpoint template, such as {@code /v1/screenshots/jobs/{id}}
+     * @return the call's trace
+     */
+    default CallTrace startCall(String method, String endpoint) {
+        return CallTrace.NOOP;
+    }
+}
@@ -0,0 +1,169 @@
+package com.allscreenshots.sdk.tracing.opentelemetry;
+
+import com.allscreenshots.sdk.tracing.AttemptTrace;
+import com.allscreenshots.sdk.tracing.CallTrace;
+import com.allscreenshots.sdk.tracing.SdkTracing;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+import java.util.function.BiConsumer;
+
+/**
+ * {@link SdkTracing} backed by OpenTelemetry.
+ *
+ * <p>Requires {@code io.opentelemetry:opentelemetry-api}, which the SDK declares as an optional
+ * dependency. Request it through the SDK's {@code opentelemetry} feature variant or add it
+ * directly.</p>
+ *
+ * <p>Each SDK call becomes an internal span named {@code allscreenshots <method> <endpoint>},
+ * a child of the span that is current when the call is made. Each HTTP attempt becomes a client
+ * span beneath it, and its context is injected into the request headers with the configured
+ * propagators. Span attributes:</p>
+ * <ul>
+ *   <li>both: {@code http.request.method} and {@code url.template}</li>
+ *   <li>call: {@code allscreenshots.attempts} and, for compose and schedule execution results,
+ *       {@code allscreenshots.render_time_ms}</li>
+ *   <li>attempt: {@code http.request.resend_count}, {@code allscreenshots.backoff_ms},
+ *       {@code http.response.status_code}, {@code http.response.body.size} and, on failure,
+ *       {@code error.type}</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * AllscreenshotsClient client = AllscreenshotsClient.builder()
+ *     .tracing(new OpenTelemetrySdkTracing(GlobalOpenTelemetry.get()))
+ *     .build();
+ * }</pre>
+ */
+public class OpenTelemetrySdkTracing implements SdkTracing {
+
+    static final String INSTRUMENTATION_NAME = "com.allscreenshots.sdk";
+    static final String INSTRUMENTATION_VERSION = "1.0.0";
+
+    private static final AttributeKey<String> METHOD = AttributeKey.stringKey("http.request.method");
+    private static final AttributeKey<String> URL_TEMPLATE = AttributeKey.stringKey("url.template");
+    private static final AttributeKey<Long> STATUS = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<Long> RESEND_COUNT = AttributeKey.longKey("http.request.resend_count");
+    private static final AttributeKey<Long> RESPONSE_SIZE = AttributeKey.longKey("http.response.body.size");
+    private static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+    private static final AttributeKey<Long> ATTEMPTS = AttributeKey.longKey("allscreenshots.attempts");
+    private static final AttributeKey<Long> BACKOFF = AttributeKey.longKey("allscreenshots.backoff_ms");
+    private static final AttributeKey<Long> RENDER_TIME = AttributeKey.longKey("allscreenshots.render_time_ms");
+
+    private static final TextMapSetter<BiConsumer<String, String>> HEADER_SETTER =
+            (headers, key, value) -> headers.accept(key, value);
+
+    private final Tracer tracer;
+    private final TextMapPropagator propagator;
+
+    public OpenTelemetrySdkTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME, INSTRUMENTATION_VERSION);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @Override
+    public CallTrace startCall(String method, String endpoint) {
+        Context parent = Context.current();
+        Span span = tracer.spanBuilder("allscreenshots " + method + " " + endpoint)
+                .setParent(parent)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(METHOD, method)
+                .setAttribute(URL_TEMPLATE, endpoint)
+                .startSpan();
+        return new OpenTelemetryCallTrace(parent.with(span), span, method, endpoint);
+    }
+
+    private static void fail(Span span, Throwable error) {
+        span.recordException(error);
+        span.setAttribute(ERROR_TYPE, error.getClass().getName());
+        span.setStatus(StatusCode.ERROR);
+    }
+
+    private final class OpenTelemetryCallTrace implements CallTrace {
+
+        private final Context context;
+        private final Span span;
+        private final String method;
+        private final String endpoint;
+        private volatile int attempts;
+
+        OpenTelemetryCallTrace(Context context, Span span, String method, String endpoint) {
+            this.context = context;
+            this.span = span;
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public AttemptTrace startAttempt(int attempt, long backoffMillis) {
+            attempts = attempt + 1;
+            Span attemptSpan = tracer.spanBuilder(method + " " + endpoint)
+                    .setParent(context)
+                    .setSpanKind(SpanKind.CLIENT)
+                    .setAttribute(METHOD, method)
+                    .setAttribute(URL_TEMPLATE, endpoint)
+                    .setAttribute(BACKOFF, backoffMillis)
+                    .startSpan();
+            if (attempt > 0) {
+                attemptSpan.setAttribute(RESEND_COUNT, attempt);
+            }
+            return new OpenTelemetryAttemptTrace(context.with(attemptSpan), attemptSpan);
+        }
+
+        @Override
+        public void renderTime(long millis) {
+            span.setAttribute(RENDER_TIME, millis);
+        }
+
+        @Override
+        public void end(Throwable error) {
+            span.setAttribute(ATTEMPTS, attempts);
+            if (error != null) {
+                fail(span, error);
+            }
+            span.end();
+        }
+    }
+
+    private final class OpenTelemetryAttemptTrace implements AttemptTrace {
+
+        private final Context context;
+        private final Span span;
+
+        OpenTelemetryAttemptTrace(Context context, Span span) {
+            this.context = context;
+            this.span = span;
+        }
+
+        @Override
+        public void inject(BiConsumer<String, String> headers) {
+            propagator.inject(context, headers, HEADER_SETTER);
+        }
+
+        @Override
+        public void responseReceived(int status) {
+            span.setAttribute(STATUS, status);
+            if (status >= 400) {
+                span.setAttribute(ERROR_TYPE, Integer.toString(status));
+                span.setStatus(StatusCode.ERROR);
+            }
+        }
+
+        @Override
+        public void end(long responseBytes, Throwable error) {
+            if (responseBytes >= 0) {
+                span.setAttribute(RESPONSE_SIZE, responseBytes);
+            }
+            if (error != null) {
+                fail(span, error);
+            }
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.allscreenshots.sdk.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuration for the circuit breaker.
+ *
+ * <p>Each endpoint family has a circuit of its own that watches the outcome of its last
+ * {@code slidingWindowSize} attempts. Network errors, timeouts and 5xx responses count as
+ * failures; responses whose headers take longer than {@code slowCallDuration} count as slow.
+ * Once at least {@code minimumCalls} attempts were seen and either share reaches its threshold,
+ * the circuit opens and calls fail at once with {@code CircuitBreakerOpenException}, without
+ * being sent or retried.</p>
+ *
+ * <p>After {@code openDuration} the circuit lets {@code halfOpenCalls} probe requests through.
+ * If they all succeed in good time it closes again; a single failed or slow probe reopens it.</p>
+ *
+ * <pre>{@code
+ * CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+ *     .failureRateThreshold(0.5)
+ *     .slowCalls(Duration.ofSeconds(20), 0.8)
+ *     .openDuration(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ */
+public class CircuitBreakerConfig {
+
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Set<EndpointFamily> families;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.families = Collections.unmodifiableSet(EnumSet.copyOf(builder.families));
+    }
+
+    /**
+     * Returns the default configuration.
+     *
+     * @return configuration covering every endpoint family, opening at 50% failures
+     */
+    public static CircuitBreakerConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public Set<EndpointFamily> getFamilies() {
+        return families;
+    }
+
+    public static class Builder {
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 0.8;
+        private Duration slowCallDuration = Duration.ofSeconds(30);
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+        private Set<EndpointFamily> families = EnumSet.allOf(EndpointFamily.class);
+
+        /**
+         * Sets the share of failed attempts that opens the circuit.
+         *
+         * @param failureRateThreshold a share above 0 and at most 1 (defaults to 0.5)
+         * @return this builder
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("failureRateThreshold must be above 0 and at most 1");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets when attempts count as slow, and the share of slow attempts that opens the
+         * circuit. Captures of heavy pages are legitimately slow, so keep the duration well above
+         * their usual time.
+         *
+         * @param slowCallDuration the time to response headers above which an attempt is slow
+         *                         (defaults to 30 seconds)
+         * @param slowCallRateThreshold a share above 0 and at most 1 (defaults to 0.8)
+         * @return this builder
+         */
+        public Builder slowCalls(Duration slowCallDuration, double slowCallRateThreshold) {
+            if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+                throw new IllegalArgumentException("slowCallRateThreshold must be above 0 and at most 1");
+            }
+            this.slowCallDuration = slowCallDuration;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how many of the latest attempts the failure and slow-call shares are taken over.
+         *
+         * @param slidingWindowSize attempts (at least 1, defaults to 20)
+         * @return this builder
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            if (slidingWindowSize < 1) {
+                throw new IllegalArgumentException("slidingWindowSize must be at least 1");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets how many attempts must be seen before the circuit may open, so that a few early
+         * failures do not trip it.
+         *
+         * @param minimumCalls attempts (at least 1, defaults to 10)
+         * @return this builder
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be at least 1");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how long an open circuit rejects calls before letting probes through.
+         *
+         * @param openDuration the time to stay open (defaults to 30 seconds)
+         * @return this builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Sets how many probe requests a half-open circuit lets through.
+         *
+         * @param halfOpenCalls probes that must all succeed to close the circuit (at least 1,
+         *                      defaults to 3)
+         * @return this builder
+         */
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            if (halfOpenCalls < 1) {
+                throw new IllegalArgumentException("halfOpenCalls must be at least 1");
+            }
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Sets the endpoint families that get a circuit.
+         *
+         * @param families the families (defaults to all)
+         * @return this builder
+         */
+        public Builder families(EndpointFamily... families) {
+            if (families.length == 0) {
+                throw new IllegalArgumentException("At least one endpoint family is required");
+            }
+            this.families = EnumSet.of(families[0], families);
+            return this;
+        }
+
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.allscreenshots.sdk.util;
+
+/**
+ * States of an endpoint family's circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Calls go through and their outcomes are recorded.
+     */
+    CLOSED,
+
+    /**
+     * Calls fail at once with {@code CircuitBreakerOpenException}.
+     */
+    OPEN,
+
+    /**
+     * A few probe calls go through to test whether the API has recovered; others fail at once.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,203 @@
+package com.allscreenshots.sdk.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Configuration for the adaptive concurrency limiter.
+ *
+ * <p>The limiter caps how many requests to the configured endpoint families are in flight at
+ * once, and moves the cap with the API's response. Each response that arrives in good time raises
+ * the limit by about one per round of requests, as long as the limit is actually in use. A 429,
+ * a 5xx, a network error, or a response slower than {@code latencyTolerance} times the fastest
+ * recent one lowers it by {@code backoffRatio}. Latency is measured up to the response headers,
+ * so the limit tracks server-side work rather than download speed.</p>
+ *
+ * <p>Callers over the limit queue for up to {@code maxWait}, then fail with
+ * {@code ConcurrencyLimitException}. Use {@link Builder#failFast()} to fail at once.</p>
+ *
+ * <pre>{@code
+ * ConcurrencyLimitConfig config = ConcurrencyLimitConfig.builder()
+ *     .initialLimit(10)
+ *     .maxLimit(200)
+ *     .maxWait(Duration.ofSeconds(30))
+ *     .build();
+ * }</pre>
+ */
+public class ConcurrencyLimitConfig {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final Duration maxWait;
+    private final Set<EndpointFamily> families;
+
+    private ConcurrencyLimitConfig(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = Math.max(builder.maxLimit, builder.minLimit);
+        this.initialLimit = Math.min(Math.max(builder.initialLimit, minLimit), maxLimit);
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxWait = builder.maxWait;
+        this.families = Collections.unmodifiableSet(EnumSet.copyOf(builder.families));
+    }
+
+    /**
+     * Returns the default configuration.
+     *
+     * @return configuration limiting captures, starting at 10 concurrent requests
+     */
+    public static ConcurrencyLimitConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public Set<EndpointFamily> getFamilies() {
+        return families;
+    }
+
+    public static class Builder {
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 100;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private Duration maxWait = Duration.ofSeconds(60);
+        private Set<EndpointFamily> families = EnumSet.of(EndpointFamily.CAPTURE);
+
+        /**
+         * Sets the limit to start with.
+         *
+         * @param initialLimit concurrent requests (defaults to 10)
+         * @return this builder
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the lowest the limit may drop to.
+         *
+         * @param minLimit concurrent requests (at least 1, defaults to 1)
+         * @return this builder
+         */
+        public Builder minLimit(int minLimit) {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("minLimit must be at least 1");
+            }
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Sets the highest the limit may grow to.
+         *
+         * @param maxLimit concurrent requests (defaults to 100)
+         * @return this builder
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied by when the API signals overload.
+         *
+         * @param backoffRatio a ratio between 0.5 and 1 (defaults to 0.9)
+         * @return this builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (backoffRatio < 0.5 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be at least 0.5 and below 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets how much slower than the fastest recent response a response may be before it
+         * counts as a sign of overload. Captures of different pages take different times, so
+         * keep this generous.
+         *
+         * @param latencyTolerance the multiple of the fastest response (above 1, defaults to 2.0)
+         * @return this builder
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (latencyTolerance <= 1) {
+                throw new IllegalArgumentException("latencyTolerance must be above 1");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Sets how long callers over the limit wait for a slot before failing.
+         *
+         * @param maxWait the longest wait (defaults to 60 seconds)
+         * @return this builder
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Makes callers over the limit fail at once instead of queueing.
+         *
+         * @return this builder
+         */
+        public Builder failFast() {
+            return maxWait(Duration.ZERO);
+        }
+
+        /**
+         * Sets the endpoint families the limiter applies to.
+         *
+         * @param families the families (defaults to {@link EndpointFamily#CAPTURE})
+         * @return this builder
+         */
+        public Builder families(EndpointFamily... families) {
+            if (families.length == 0) {
+                throw new IllegalArgumentException("At least one endpoint family is required");
+            }
+            this.families = EnumSet.of(families[0], families);
+            return this;
+        }
+
+        public ConcurrencyLimitConfig build() {
+            return new ConcurrencyLimitConfig(this);
+        }
+    }
+}
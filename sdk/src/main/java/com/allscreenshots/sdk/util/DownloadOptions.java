@@ -0,0 +1,125 @@
+package com.allscreenshots.sdk.util;
+
+import com.allscreenshots.sdk.model.BulkJobDetailInfo;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Options for downloading the results of a bulk job to disk.
+ */
+public class DownloadOptions {
+
+    private final int concurrency;
+    private final boolean resume;
+    private final boolean verifySize;
+    private final Function<BulkJobDetailInfo, String> fileNamer;
+
+    private DownloadOptions(Builder builder) {
+        this.concurrency = builder.concurrency;
+        this.resume = builder.resume;
+        this.verifySize = builder.verifySize;
+        this.fileNamer = builder.fileNamer;
+    }
+
+    /**
+     * Returns the default download options.
+     *
+     * @return options with 4 parallel downloads, resume and size verification enabled
+     */
+    public static DownloadOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    public boolean isVerifySize() {
+        return verifySize;
+    }
+
+    /**
+     * Returns the file name, relative to the target directory, for a finished job.
+     *
+     * @param job the finished job
+     * @return the file name
+     */
+    public String fileNameFor(BulkJobDetailInfo job) {
+        return fileNamer.apply(job);
+    }
+
+    private static String defaultFileName(BulkJobDetailInfo job) {
+        String format = job.getFormat() != null ? job.getFormat().toLowerCase(Locale.ROOT) : "png";
+        return job.getId() + "." + format;
+    }
+
+    public static class Builder {
+        private int concurrency = 4;
+        private boolean resume = true;
+        private boolean verifySize = true;
+        private Function<BulkJobDetailInfo, String> fileNamer = DownloadOptions::defaultFileName;
+
+        /**
+         * Sets the maximum number of downloads in flight at once.
+         *
+         * @param concurrency parallel downloads (at least 1)
+         * @return this builder
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets whether a {@code .part} file left by an interrupted download is continued with an
+         * HTTP range request instead of being downloaded again.
+         *
+         * @param resume true to resume partial files
+         * @return this builder
+         */
+        public Builder resume(boolean resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        /**
+         * Sets whether each file is checked against the size reported by the API.
+         *
+         * @param verifySize true to verify file sizes
+         * @return this builder
+         */
+        public Builder verifySize(boolean verifySize) {
+            this.verifySize = verifySize;
+            return this;
+        }
+
+        /**
+         * Sets how result files are named. Defaults to {@code <jobId>.<format>}. Jobs whose name
+         * leads outside the target directory, or repeats another job's name, are reported as
+         * failed rather than downloaded.
+         *
+         * @param fileNamer maps a finished job to a file name
+         * @return this builder
+         */
+        public Builder fileNamer(Function<BulkJobDetailInfo, String> fileNamer) {
+            this.fileNamer = fileNamer;
+            return this;
+        }
+
+        public DownloadOptions build() {
+            return new DownloadOptions(this);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.allscreenshots.sdk.util;
+
+/**
+ * Groups of API endpoints that share client-side limits.
+ */
+public enum EndpointFamily {
+
+    /**
+     * Screenshot capture: {@code /v1/screenshots} and {@code /v1/screenshots/async}.
+     */
+    CAPTURE,
+
+    /**
+     * Screenshot job status and results: {@code /v1/screenshots/jobs/...}.
+     */
+    JOBS,
+
+    /**
+     * Bulk jobs: {@code /v1/screenshots/bulk/...}.
+     */
+    BULK,
+
+    /**
+     * Compose jobs and layout previews: {@code /v1/screenshots/compose/...}.
+     */
+    COMPOSE,
+
+    /**
+     * Scheduled screenshots: {@code /v1/schedules/...}.
+     */
+    SCHEDULES,
+
+    /**
+     * Usage and quota: {@code /v1/usage/...}.
+     */
+    USAGE
+}
@@ -0,0 +1,170 @@
+package com.allscreenshots.sdk.util;
+
+import java.time.Duration;
+
+/**
+ * Configuration for hedged requests.
+ *
+ * <p>When a blocking call has had no response after the {@code percentile} latency recently seen
+ * for its endpoint family, the client sends an identical second request and returns whichever
+ * answers first, cancelling the other. Until {@code minSamples} responses have been seen for a
+ * family, {@code initialDelay} is used instead. Each call earns {@code budgetRatio} of a hedge,
+ * so hedges add at most that share to the request load.</p>
+ *
+ * <p>Only {@code GET} requests are hedged, which covers job status and results, listings, bulk
+ * and compose status, schedules and usage. Captures are not idempotent: a hedged capture may be
+ * rendered and billed twice. Opt in with {@link Builder#hedgeCaptures(boolean)} if that is
+ * acceptable for lower tail latency.</p>
+ *
+ * <pre>{@code
+ * HedgingConfig config = HedgingConfig.builder()
+ *     .percentile(0.95)
+ *     .budgetRatio(0.05)
+ *     .build();
+ * }</pre>
+ */
+public class HedgingConfig {
+
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final int minSamples;
+    private final double budgetRatio;
+    private final boolean hedgeCaptures;
+
+    private HedgingConfig(Builder builder) {
+        this.percentile = builder.percentile;
+        this.initialDelay = builder.initialDelay;
+        this.minDelay = builder.minDelay;
+        this.minSamples = builder.minSamples;
+        this.budgetRatio = builder.budgetRatio;
+        this.hedgeCaptures = builder.hedgeCaptures;
+    }
+
+    /**
+     * Returns the default configuration.
+     *
+     * @return configuration hedging {@code GET} requests at the 95th percentile, within a 5% budget
+     */
+    public static HedgingConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public boolean isHedgeCaptures() {
+        return hedgeCaptures;
+    }
+
+    public static class Builder {
+        private double percentile = 0.95;
+        private Duration initialDelay = Duration.ofSeconds(1);
+        private Duration minDelay = Duration.ofMillis(10);
+        private int minSamples = 20;
+        private double budgetRatio = 0.05;
+        private boolean hedgeCaptures;
+
+        /**
+         * Sets the latency percentile after which a hedge is sent.
+         *
+         * @param percentile a percentile between 0.5 and 1, exclusive (defaults to 0.95)
+         * @return this builder
+         */
+        public Builder percentile(double percentile) {
+            if (percentile < 0.5 || percentile >= 1) {
+                throw new IllegalArgumentException("percentile must be at least 0.5 and below 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the hedge delay used until enough latencies have been seen.
+         *
+         * @param initialDelay the delay (defaults to 1 second)
+         * @return this builder
+         */
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        /**
+         * Sets the shortest hedge delay, however fast recent responses were.
+         *
+         * @param minDelay the delay (defaults to 10 milliseconds)
+         * @return this builder
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Sets how many responses an endpoint family needs before its percentile is used.
+         *
+         * @param minSamples responses (at least 1, defaults to 20)
+         * @return this builder
+         */
+        public Builder minSamples(int minSamples) {
+            if (minSamples < 1) {
+                throw new IllegalArgumentException("minSamples must be at least 1");
+            }
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Sets the hedges allowed per call.
+         *
+         * @param budgetRatio hedges per call, for example 0.05 for 5% (above 0, at most 1,
+         *                    defaults to 0.05)
+         * @return this builder
+         */
+        public Builder budgetRatio(double budgetRatio) {
+            if (budgetRatio <= 0 || budgetRatio > 1) {
+                throw new IllegalArgumentException("budgetRatio must be above 0 and at most 1");
+            }
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        /**
+         * Also hedges blocking screenshot captures. Captures are not idempotent, so a hedged
+         * capture may be rendered and counted against your quota twice.
+         *
+         * @param hedgeCaptures whether to hedge captures (defaults to false)
+         * @return this builder
+         */
+        public Builder hedgeCaptures(boolean hedgeCaptures) {
+            this.hedgeCaptures = hedgeCaptures;
+            return this;
+        }
+
+        public HedgingConfig build() {
+            return new HedgingConfig(this);
+        }
+    }
+}
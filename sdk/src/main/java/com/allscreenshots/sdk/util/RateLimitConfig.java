@@ -0,0 +1,179 @@
+package com.allscreenshots.sdk.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration for the client-side rate limiter.
+ *
+ * <p>Requests draw permits from token buckets that refill at {@code permitsPerSecond} and hold up
+ * to {@code burst} permits. Endpoint families without a limit of their own share the default
+ * bucket. When the API answers 429, the bucket the request came from is paused for the
+ * {@code Retry-After} window, so other callers wait instead of collecting 429s of their own.</p>
+ *
+ * <pre>{@code
+ * RateLimitConfig config = RateLimitConfig.builder()
+ *     .permitsPerSecond(20).burst(40)                // all endpoints
+ *     .limit(EndpointFamily.CAPTURE, 5, 10)          // captures get their own, lower limit
+ *     .build();
+ * }</pre>
+ */
+public class RateLimitConfig {
+
+    private final Limit defaultLimit;
+    private final Map<EndpointFamily, Limit> limits;
+    private final Duration defaultRetryAfter;
+
+    private RateLimitConfig(Builder builder) {
+        this.defaultLimit = new Limit(builder.permitsPerSecond, builder.burst);
+        this.limits = Collections.unmodifiableMap(new EnumMap<>(builder.limits));
+        this.defaultRetryAfter = builder.defaultRetryAfter;
+    }
+
+    /**
+     * Returns a configuration that sets no request rate, but still pauses callers after a 429.
+     *
+     * @return configuration without permit limits
+     */
+    public static RateLimitConfig pauseOnRateLimit() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the limit of the default bucket, shared by families without a limit of their own.
+     *
+     * @return the default limit
+     */
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    /**
+     * Returns the limits configured for individual endpoint families.
+     *
+     * @return limits by family
+     */
+    public Map<EndpointFamily, Limit> getLimits() {
+        return limits;
+    }
+
+    /**
+     * Returns how long to pause after a 429 without a {@code Retry-After} header.
+     *
+     * @return the pause
+     */
+    public Duration getDefaultRetryAfter() {
+        return defaultRetryAfter;
+    }
+
+    /**
+     * A token bucket's refill rate and capacity.
+     */
+    public static final class Limit {
+
+        private final double permitsPerSecond;
+        private final int burst;
+
+        private Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst > 0 ? burst : Math.max(1, (int) Math.ceil(permitsPerSecond));
+        }
+
+        /**
+         * Returns the refill rate.
+         *
+         * @return permits per second, or 0 for no limit
+         */
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        /**
+         * Returns the bucket's capacity.
+         *
+         * @return the number of requests that may be sent at once after an idle period
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        public boolean isUnlimited() {
+            return permitsPerSecond <= 0;
+        }
+    }
+
+    public static class Builder {
+        private double permitsPerSecond;
+        private int burst;
+        private final Map<EndpointFamily, Limit> limits = new EnumMap<>(EndpointFamily.class);
+        private Duration defaultRetryAfter = Duration.ofSeconds(1);
+
+        /**
+         * Sets the refill rate of the default bucket.
+         *
+         * @param permitsPerSecond requests per second (0 for no limit)
+         * @return this builder
+         */
+        public Builder permitsPerSecond(double permitsPerSecond) {
+            if (permitsPerSecond < 0) {
+                throw new IllegalArgumentException("permitsPerSecond must not be negative");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the capacity of the default bucket. Defaults to one second's worth of permits.
+         *
+         * @param burst requests that may be sent at once after an idle period (at least 1)
+         * @return this builder
+         */
+        public Builder burst(int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Gives an endpoint family a bucket of its own.
+         *
+         * @param family the endpoint family
+         * @param permitsPerSecond requests per second (0 for no limit)
+         * @param burst requests that may be sent at once after an idle period (at least 1)
+         * @return this builder
+         */
+        public Builder limit(EndpointFamily family, double permitsPerSecond, int burst) {
+            if (permitsPerSecond < 0) {
+                throw new IllegalArgumentException("permitsPerSecond must not be negative");
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1");
+            }
+            limits.put(family, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Sets how long to pause after a 429 that carries no {@code Retry-After} header.
+         *
+         * @param defaultRetryAfter the pause (defaults to 1 second)
+         * @return this builder
+         */
+        public Builder defaultRetryAfter(Duration defaultRetryAfter) {
+            this.defaultRetryAfter = defaultRetryAfter;
+            return this;
+        }
+
+        public RateLimitConfig build() {
+            return new RateLimitConfig(this);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.allscreenshots.sdk.util;
+
+import com.allscreenshots.sdk.cache.CacheStorage;
+import com.allscreenshots.sdk.cache.HeapCacheStorage;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the result cache.
+ *
+ * <p>The cache holds the images returned by {@code capture(request)} and
+ * {@code getJobResult(jobId)}, keyed by the capture request (ignoring webhook settings) or the
+ * job ID. Its total size in bytes is bounded by {@code maximumSize}, and each entry expires
+ * {@code ttl} after it was stored.</p>
+ *
+ * <p>Eviction follows W-TinyLFU: new results enter a small LRU window, and when the main area is
+ * full a result leaving the window is only admitted if it was requested more often than the
+ * entries it would push out. One-off captures therefore cannot flush out the thumbnails that are
+ * fetched all day.</p>
+ *
+ * <pre>{@code
+ * ResultCacheConfig config = ResultCacheConfig.builder()
+ *     .maximumSize(256L * 1024 * 1024)
+ *     .ttl(Duration.ofMinutes(30))
+ *     .storage(new OffHeapCacheStorage())
+ *     .build();
+ * }</pre>
+ */
+public class ResultCacheConfig {
+
+    private final long maximumSize;
+    private final Duration ttl;
+    private final CacheStorage storage;
+
+    private ResultCacheConfig(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.ttl = builder.ttl;
+        this.storage = builder.storage != null ? builder.storage : new HeapCacheStorage();
+    }
+
+    /**
+     * Returns the default configuration.
+     *
+     * @return configuration with 64 MB on the heap and a 10 minute TTL
+     */
+    public static ResultCacheConfig defaultConfig() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public CacheStorage getStorage() {
+        return storage;
+    }
+
+    public static class Builder {
+        private long maximumSize = 64L * 1024 * 1024;
+        private Duration ttl = Duration.ofMinutes(10);
+        private CacheStorage storage;
+
+        /**
+         * Sets the maximum total size of cached results.
+         *
+         * @param maximumSize the size in bytes (at least 1, defaults to 64 MB)
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be at least 1");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a result stays valid after it was stored.
+         *
+         * @param ttl the time to live (defaults to 10 minutes)
+         * @return this builder
+         */
+        public Builder ttl(Duration ttl) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets where the bytes of cached results are kept.
+         *
+         * @param storage the storage (defaults to a new {@link HeapCacheStorage})
+         * @return this builder
+         */
+        public Builder storage(CacheStorage storage) {
+            this.storage = storage;
+            return this;
+        }
+
+        public ResultCacheConfig build() {
+            return new ResultCacheConfig(this);
+        }
+    }
+}
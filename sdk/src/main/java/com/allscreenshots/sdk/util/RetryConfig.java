@@ -1,20 +1,74 @@
 package com.allscreenshots.sdk.util;
 
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Configuration for retry behavior with exponential backoff.
+ *
+ * <p>Network errors, 429s and 5xx responses are retried. Delays grow exponentially from
+ * {@code initialDelayMs} up to {@code maxDelayMs} and are randomized with {@link Jitter}, so
+ * clients that failed together do not retry together. A 429's {@code Retry-After} is waited out
+ * in full when it is longer than the backoff. An optional retry budget caps retries at a share of
+ * the client's recent requests, so an outage does not multiply the load on the API.</p>
  */
 public class RetryConfig {
 
+    /**
+     * How backoff delays are randomized.
+     */
+    public enum Jitter {
+
+        /**
+         * Exactly {@code initialDelayMs * multiplier^attempt}, capped at {@code maxDelayMs}.
+         */
+        NONE,
+
+        /**
+         * A random delay between 0 and the exponential delay.
+         */
+        FULL,
+
+        /**
+         * Half the exponential delay plus a random share of the other half.
+         */
+        EQUAL,
+
+        /**
+         * A random delay between {@code initialDelayMs} and three times the previous delay,
+         * capped at {@code maxDelayMs}.
+         */
+        DECORRELATED
+    }
+
     private final int maxRetries;
     private final long initialDelayMs;
     private final long maxDelayMs;
     private final double multiplier;
+    private final Jitter jitter;
+    private final Map<Class<? extends AllscreenshotsException>, Integer> maxRetriesByException;
+    private final Duration maxRetryAfter;
+    private final double retryBudgetRatio;
+    private final Duration retryBudgetWindow;
+    private final int minRetriesPerWindow;
 
     private RetryConfig(Builder builder) {
         this.maxRetries = builder.maxRetries;
         this.initialDelayMs = builder.initialDelayMs;
         this.maxDelayMs = builder.maxDelayMs;
         this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.maxRetriesByException = Collections.unmodifiableMap(new LinkedHashMap<>(builder.maxRetriesByException));
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryBudgetRatio = builder.retryBudgetRatio;
+        this.retryBudgetWindow = builder.retryBudgetWindow;
+        this.minRetriesPerWindow = builder.minRetriesPerWindow;
     }
 
     /**
@@ -43,6 +97,32 @@ public class RetryConfig {
         return maxRetries;
     }
 
+    /**
+     * Returns how many times a failure of this kind may be retried, using the most specific
+     * {@link Builder#maxRetries(Class, int)} setting for its class.
+     *
+     * @param exception the failure
+     * @return the maximum number of retries
+     */
+    public int getMaxRetries(AllscreenshotsException exception) {
+        for (Class<?> type = exception.getClass(); type != Object.class; type = type.getSuperclass()) {
+            Integer retries = maxRetriesByException.get(type);
+            if (retries != null) {
+                return retries;
+            }
+        }
+        return maxRetries;
+    }
+
+    /**
+     * Returns whether any failure may be retried at all.
+     *
+     * @return true if retries are enabled for some kind of failure
+     */
+    public boolean isRetryEnabled() {
+        return maxRetries > 0 || maxRetriesByException.values().stream().anyMatch(retries -> retries > 0);
+    }
+
     public long getInitialDelayMs() {
         return initialDelayMs;
     }
@@ -55,6 +135,35 @@ public class RetryConfig {
         return multiplier;
     }
 
+    public Jitter getJitter() {
+        return jitter;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public Duration getRetryBudgetWindow() {
+        return retryBudgetWindow;
+    }
+
+    public int getMinRetriesPerWindow() {
+        return minRetriesPerWindow;
+    }
+
+    /**
+     * Returns whether retries are limited by a retry budget.
+     *
+     * @return true if a budget is set
+     */
+    public boolean hasRetryBudget() {
+        return retryBudgetRatio > 0;
+    }
+
     /**
      * Calculates the delay for a given retry attempt.
      *
@@ -66,11 +175,40 @@ public class RetryConfig {
         return Math.min(delay, maxDelayMs);
     }
 
+    /**
+     * Calculates the jittered delay for a given retry attempt.
+     *
+     * @param attempt the retry attempt number (0-based)
+     * @param previousDelayMs the delay before the previous retry, or 0 before the first
+     * @return the delay in milliseconds
+     */
+    public long getDelayForAttempt(int attempt, long previousDelayMs) {
+        long delay = getDelayForAttempt(attempt);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (jitter) {
+            case FULL:
+                return random.nextLong(delay + 1);
+            case EQUAL:
+                return delay / 2 + random.nextLong(delay - delay / 2 + 1);
+            case DECORRELATED:
+                long upper = Math.max(initialDelayMs, Math.min(maxDelayMs, previousDelayMs * 3));
+                return initialDelayMs + random.nextLong(upper - initialDelayMs + 1);
+            default:
+                return delay;
+        }
+    }
+
     public static class Builder {
         private int maxRetries = 3;
         private long initialDelayMs = 1000;
         private long maxDelayMs = 30000;
         private double multiplier = 2.0;
+        private Jitter jitter = Jitter.FULL;
+        private final Map<Class<? extends AllscreenshotsException>, Integer> maxRetriesByException = new LinkedHashMap<>();
+        private Duration maxRetryAfter = Duration.ofMinutes(1);
+        private double retryBudgetRatio;
+        private Duration retryBudgetWindow = Duration.ofSeconds(10);
+        private int minRetriesPerWindow = 10;
 
         /**
          * Sets the maximum number of retries.
@@ -83,6 +221,29 @@ public class RetryConfig {
             return this;
         }
 
+        /**
+         * Sets the maximum number of retries for one kind of failure, overriding
+         * {@link #maxRetries(int)}. Subclasses are covered unless they have a setting of their
+         * own. Only failures the client considers transient are retried, so this cannot make
+         * a {@code ValidationException} retryable.
+         *
+         * <pre>{@code
+         * RetryConfig.builder()
+         *     .maxRetries(2)
+         *     .maxRetries(RateLimitException.class, 5)
+         *     .maxRetries(NetworkException.class, 0)
+         *     .build();
+         * }</pre>
+         *
+         * @param type the exception class
+         * @param maxRetries maximum retries for it (0 to disable)
+         * @return this builder
+         */
+        public Builder maxRetries(Class<? extends AllscreenshotsException> type, int maxRetries) {
+            maxRetriesByException.put(type, maxRetries);
+            return this;
+        }
+
         /**
          * Sets the initial delay before the first retry.
          *
@@ -116,6 +277,62 @@ public class RetryConfig {
             return this;
         }
 
+        /**
+         * Sets how backoff delays are randomized.
+         *
+         * @param jitter the jitter strategy (defaults to {@link Jitter#FULL})
+         * @return this builder
+         */
+        public Builder jitter(Jitter jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the longest {@code Retry-After} the client waits out. A 429 asking for a longer
+         * wait is not retried.
+         *
+         * @param maxRetryAfter the longest wait (defaults to 1 minute)
+         * @return this builder
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        /**
+         * Limits retries to a share of the client's requests over a sliding window. Once the
+         * budget is spent, failures are returned without retrying until it refills.
+         *
+         * @param ratio retries allowed per request, for example 0.1 for 10% (0 disables the budget)
+         * @param window the sliding window (defaults to 10 seconds), which must be positive
+         * @return this builder
+         */
+        public Builder retryBudget(double ratio, Duration window) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("ratio must not be negative");
+            }
+            Objects.requireNonNull(window, "window must not be null");
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.retryBudgetRatio = ratio;
+            this.retryBudgetWindow = window;
+            return this;
+        }
+
+        /**
+         * Sets the retries always allowed per budget window, so that clients sending few
+         * requests can still retry.
+         *
+         * @param minRetriesPerWindow retries per window (defaults to 10)
+         * @return this builder
+         */
+        public Builder minRetriesPerWindow(int minRetriesPerWindow) {
+            this.minRetriesPerWindow = minRetriesPerWindow;
+            return this;
+        }
+
         public RetryConfig build() {
             return new RetryConfig(this);
         }
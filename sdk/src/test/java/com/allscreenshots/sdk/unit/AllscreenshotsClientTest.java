@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -116,6 +117,51 @@ class AllscreenshotsClientTest {
         assertEquals("/v1/screenshots/jobs/job-123", request.getPath());
     }
 
+    @Test
+    void emptyJsonResponseReturnsNull() {
+        mockServer.enqueue(new MockResponse().setHeader("Content-Type", "application/json"));
+
+        assertNull(client.screenshots().getJob("job-123"));
+    }
+
+    @Test
+    void listJobsParsesLargeResponse() {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\": \"job-").append(i).append("\", \"status\": \"COMPLETED\"}");
+        }
+        mockServer.enqueue(new MockResponse()
+                .setBody(body.append("]").toString())
+                .setHeader("Content-Type", "application/json"));
+
+        List<JobResponse> jobs = client.screenshots().listJobs();
+
+        assertEquals(5000, jobs.size());
+        assertEquals("job-4999", jobs.get(4999).getId());
+    }
+
+    @Test
+    void fastJsonBindingParsesResponses() {
+        AllscreenshotsClient fastClient = client.newBuilder()
+                .fastJsonBinding(true)
+                .build();
+        mockServer.enqueue(new MockResponse()
+                .setBody("""
+                        {
+                            "id": "bulk-1",
+                            "status": "COMPLETED",
+                            "totalJobs": 1,
+                            "jobs": [{"id": "job-1", "status": "COMPLETED", "fileSize": 1024}]
+                        }
+                        """)
+                .setHeader("Content-Type", "application/json"));
+
+        BulkStatusResponse status = fastClient.bulk().getStatus("bulk-1");
+
+        assertEquals(1, status.getTotalJobs());
+        assertEquals(1024L, status.getJobs().get(0).getFileSize());
+    }
+
     @Test
     void handles401AuthenticationError() {
         mockServer.enqueue(new MockResponse()
@@ -237,4 +283,43 @@ class AllscreenshotsClientTest {
         assertEquals(500, response.getScreenshots().getUsed());
         assertEquals(9500, response.getScreenshots().getRemaining());
     }
+
+    @Test
+    void newBuilderSharesConnectionsAcrossApiKeys() throws Exception {
+        AllscreenshotsClient tenantClient = client.newBuilder()
+                .apiKey("tenant-api-key")
+                .build();
+        String quota = """
+                {"tier": "PRO"}
+                """;
+        mockServer.enqueue(new MockResponse().setBody(quota).setHeader("Content-Type", "application/json"));
+        mockServer.enqueue(new MockResponse().setBody(quota).setHeader("Content-Type", "application/json"));
+
+        client.usage().getQuota();
+        tenantClient.usage().getQuota();
+
+        RecordedRequest first = mockServer.takeRequest();
+        RecordedRequest second = mockServer.takeRequest();
+        assertEquals("test-api-key", first.getHeader("X-API-Key"));
+        assertEquals("tenant-api-key", second.getHeader("X-API-Key"));
+        assertEquals(1, second.getSequenceNumber(), "second client should reuse the pooled connection");
+    }
+
+    @Test
+    void retriedPostResendsSameBody() throws Exception {
+        AllscreenshotsClient retryingClient = client.newBuilder()
+                .retryConfig(RetryConfig.builder().maxRetries(1).initialDelayMs(10).build())
+                .build();
+        mockServer.enqueue(new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}"));
+        mockServer.enqueue(new MockResponse().setBody(new okio.Buffer().write(new byte[]{1, 2, 3})));
+
+        retryingClient.screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .build());
+
+        String first = mockServer.takeRequest().getBody().readUtf8();
+        String second = mockServer.takeRequest().getBody().readUtf8();
+        assertTrue(first.contains("\"url\":\"https://example.com\""));
+        assertEquals(first, second);
+    }
 }
@@ -0,0 +1,163 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.*;
+import com.allscreenshots.sdk.model.*;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncClientTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.builder()
+                        .maxRetries(2)
+                        .initialDelayMs(10)
+                        .build())
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void captureCompletesWithImageBytes() throws Exception {
+        okio.Buffer buffer = new okio.Buffer();
+        buffer.write(new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47});
+        mockServer.enqueue(new MockResponse()
+                .setBody(buffer)
+                .setHeader("Content-Type", "image/png"));
+
+        CompletableFuture<byte[]> future = client.async().screenshots().capture(
+                ScreenshotRequest.builder()
+                        .url("https://example.com")
+                        .build()
+        );
+
+        assertEquals(4, future.get(5, TimeUnit.SECONDS).length);
+
+        RecordedRequest request = mockServer.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/v1/screenshots", request.getPath());
+        assertEquals("test-api-key", request.getHeader("X-API-Key"));
+    }
+
+    @Test
+    void listJobsDeserializesCollection() throws Exception {
+        mockServer.enqueue(new MockResponse()
+                .setBody("""
+                        [
+                            {"id": "job-1", "status": "QUEUED"},
+                            {"id": "job-2", "status": "COMPLETED"}
+                        ]
+                        """)
+                .setHeader("Content-Type", "application/json"));
+
+        List<JobResponse> jobs = client.async().screenshots().listJobs().get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, jobs.size());
+        assertEquals("job-2", jobs.get(1).getId());
+        assertTrue(jobs.get(1).isCompleted());
+    }
+
+    @Test
+    void retriesServerErrorsWithoutBlocking() throws Exception {
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"tier": "PRO"}
+                        """)
+                .setHeader("Content-Type", "application/json"));
+
+        QuotaStatusResponse response = client.async().usage().getQuota().get(5, TimeUnit.SECONDS);
+
+        assertEquals("PRO", response.getTier());
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void failsWithoutRetryOnClientErrors() {
+        mockServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("""
+                        {
+                            "message": "Invalid URL format",
+                            "code": "INVALID_URL"
+                        }
+                        """)
+                .setHeader("Content-Type", "application/json"));
+
+        CompletableFuture<byte[]> future = client.async().screenshots().capture(
+                ScreenshotRequest.builder()
+                        .url("not-a-url")
+                        .build()
+        );
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS));
+        ValidationException cause = assertInstanceOf(ValidationException.class, exception.getCause());
+        assertEquals("INVALID_URL", cause.getErrorCode());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void failsAfterExhaustingRetries() {
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+
+        CompletableFuture<JobResponse> future = client.async().screenshots().getJob("job-123");
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> future.get(5, TimeUnit.SECONDS));
+        ApiException cause = assertInstanceOf(ApiException.class, exception.getCause());
+        assertEquals(500, cause.getStatusCode());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void virtualThreadModeWorksOnAnyJdk() throws Exception {
+        AllscreenshotsClient virtualClient = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .useVirtualThreads(true)
+                .build();
+        mockServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"id": "job-123", "status": "PROCESSING"}
+                        """)
+                .setHeader("Content-Type", "application/json"));
+
+        JobResponse job = virtualClient.async().screenshots().getJob("job-123").get(5, TimeUnit.SECONDS);
+
+        assertTrue(job.isProcessing());
+    }
+}
@@ -0,0 +1,187 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.client.ChunkedBulkJob;
+import com.allscreenshots.sdk.exception.CircuitBreakerOpenException;
+import com.allscreenshots.sdk.model.BulkDefaults;
+import com.allscreenshots.sdk.model.BulkRequest;
+import com.allscreenshots.sdk.model.ChunkedBulkStatus;
+import com.allscreenshots.sdk.util.CircuitBreakerConfig;
+import com.allscreenshots.sdk.util.RetryConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkChunkingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, JsonNode> createdChunks = new ConcurrentHashMap<>();
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void submitsEachChunkWithSharedSettings() {
+        mockServer.setDispatcher(new BulkDispatcher(null));
+
+        ChunkedBulkJob job = client.bulk().createChunked(largeRequest(250), 100, 2);
+
+        assertEquals(List.of("bulk-0", "bulk-100", "bulk-200"), job.getIds());
+        assertEquals(250, job.getTotalJobs());
+        assertTrue(job.getFailedChunks().isEmpty());
+
+        JsonNode last = createdChunks.get("bulk-200");
+        assertEquals(50, last.get("urls").size());
+        assertEquals("Desktop HD", last.get("defaults").get("device").asText());
+        assertEquals("https://hooks.example.com/bulk", last.get("webhookUrl").asText());
+    }
+
+    @Test
+    void reportsFailedChunksWithoutFailingTheOthers() {
+        mockServer.setDispatcher(new BulkDispatcher("https://example.com/100"));
+
+        ChunkedBulkJob job = client.bulk().createChunked(largeRequest(250), 100, 2);
+
+        assertEquals(List.of("bulk-0", "bulk-200"), job.getIds());
+        assertEquals(1, job.getFailedChunks().size());
+        assertEquals("https://example.com/100", job.getFailedChunks().get(0).getUrls().get(0).getUrl());
+        assertEquals(1, job.getSubmissionErrors().size());
+    }
+
+    @Test
+    void stopsSubmittingOnceTheCircuitOpens() {
+        AllscreenshotsClient breaking = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .circuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumCalls(3)
+                        .openDuration(Duration.ofMinutes(1))
+                        .build())
+                .build();
+        AtomicInteger creates = new AtomicInteger();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (creates.incrementAndGet() > 1) {
+                    return new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}");
+                }
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody("{\"id\": \"bulk-0\", \"status\": \"PROCESSING\", \"totalJobs\": 1}");
+            }
+        });
+
+        ChunkedBulkJob job = breaking.bulk().createChunked(largeRequest(1000), 1, 1);
+
+        // The open circuit rejects the fourth chunk, and the remaining chunks are not attempted
+        assertEquals(List.of("bulk-0"), job.getIds());
+        assertEquals(999, job.getFailedChunks().size());
+        assertEquals(3, job.getSubmissionErrors().size());
+        assertInstanceOf(CircuitBreakerOpenException.class, job.getSubmissionErrors().get(2));
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void mergesStatusAcrossChildren() {
+        mockServer.setDispatcher(new BulkDispatcher(null));
+
+        ChunkedBulkStatus status = client.bulk().createChunked(largeRequest(150), 100).getStatus();
+
+        assertEquals("PROCESSING", status.getStatus());
+        assertEquals(150, status.getTotalJobs());
+        assertEquals(100, status.getCompletedJobs());
+        assertEquals(66, status.getProgress());
+        assertEquals(2, status.getChildren().size());
+    }
+
+    private static BulkRequest largeRequest(int urls) {
+        BulkRequest.Builder builder = BulkRequest.builder()
+                .defaults(BulkDefaults.builder().device("Desktop HD").build())
+                .webhookUrl("https://hooks.example.com/bulk");
+        for (int i = 0; i < urls; i++) {
+            builder.addUrl("https://example.com/" + i);
+        }
+        return builder.buildForChunking();
+    }
+
+    /**
+     * Names each bulk job after the index of its first URL. The first chunk completes, later
+     * chunks are still processing.
+     */
+    private class BulkDispatcher extends Dispatcher {
+        private final String rejectedFirstUrl;
+
+        BulkDispatcher(String rejectedFirstUrl) {
+            this.rejectedFirstUrl = rejectedFirstUrl;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            try {
+                if (request.getMethod().equals("POST")) {
+                    JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+                    String firstUrl = body.get("urls").get(0).get("url").asText();
+                    if (firstUrl.equals(rejectedFirstUrl)) {
+                        return new MockResponse().setResponseCode(400).setBody("{\"message\": \"Invalid URL\"}");
+                    }
+                    String id = "bulk-" + firstUrl.substring(firstUrl.lastIndexOf('/') + 1);
+                    createdChunks.put(id, body);
+                    return json(summary(id, body.get("urls").size(), "PROCESSING"));
+                }
+                String id = request.getPath().substring(request.getPath().lastIndexOf('/') + 1);
+                int total = createdChunks.get(id).get("urls").size();
+                return json(summary(id, total, id.equals("bulk-0") ? "COMPLETED" : "PROCESSING"));
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            }
+        }
+
+        private String summary(String id, int total, String status) {
+            int completed = status.equals("COMPLETED") ? total : 0;
+            return """
+                    {"id": "%s", "status": "%s", "totalJobs": %d, "completedJobs": %d, "failedJobs": 0, "jobs": []}
+                    """.formatted(id, status, total, completed);
+        }
+
+        private MockResponse json(String body) {
+            return new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(body);
+        }
+    }
+}
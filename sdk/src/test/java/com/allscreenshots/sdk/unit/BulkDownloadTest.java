@@ -0,0 +1,222 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.model.DownloadSummary;
+import com.allscreenshots.sdk.util.DownloadOptions;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkDownloadTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+    private final Map<String, RecordedRequest> downloads = new ConcurrentHashMap<>();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void downloadsCompletedJobsAndSkipsFailedOnes() throws IOException {
+        String otherHost = "http://127.0.0.1:" + mockServer.getPort();
+        serve("""
+                {"id": "a", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG", "fileSize": 5},
+                {"id": "b", "status": "FAILED", "errorCode": "TIMEOUT"},
+                {"id": "c", "status": "completed", "storageUrl": "%s/files/c", "format": "JPEG", "fileSize": 3}
+                """.formatted(otherHost));
+
+        DownloadSummary summary = client.bulk().downloadAll("bulk-1", directory,
+                DownloadOptions.builder().concurrency(2).build());
+
+        assertTrue(summary.isSuccessful(), summary.getFailures().toString());
+        assertEquals(2, summary.getFilesDownloaded());
+        assertEquals(8, summary.getBytesDownloaded());
+        assertEquals(1, summary.getJobsSkipped());
+        assertEquals("aaaaa", Files.readString(directory.resolve("a.png")));
+        assertEquals("ccc", Files.readString(directory.resolve("c.jpeg")));
+        assertFalse(Files.exists(directory.resolve("a.png.part")));
+
+        assertEquals("test-api-key", downloads.get("/files/a").getHeader("X-API-Key"));
+        assertNull(downloads.get("/files/c").getHeader("X-API-Key"));
+    }
+
+    @Test
+    void resumesPartialFileWithRangeRequest() throws IOException {
+        Files.writeString(directory.resolve("a.png.part"), "aa");
+        serve("""
+                {"id": "a", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG", "fileSize": 5}
+                """);
+
+        DownloadSummary summary = client.bulk().downloadAll("bulk-1", directory);
+
+        assertTrue(summary.isSuccessful(), summary.getFailures().toString());
+        assertEquals("bytes=2-", downloads.get("/files/a").getHeader("Range"));
+        assertEquals("aaaaa", Files.readString(directory.resolve("a.png")));
+    }
+
+    @Test
+    void reportsSizeMismatchAsFailure() {
+        serve("""
+                {"id": "a", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG", "fileSize": 4}
+                """);
+
+        DownloadSummary summary = client.bulk().downloadAll("bulk-1", directory);
+
+        assertEquals(0, summary.getFilesDownloaded());
+        assertTrue(summary.getFailures().get("a").contains("expected 4"));
+        assertFalse(Files.exists(directory.resolve("a.png")));
+    }
+
+    @Test
+    void refusesFileNamesOutsideTheDirectoryOrUsedTwice() {
+        serve("""
+                {"id": "../escape", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG"},
+                {"id": "a", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG"},
+                {"id": "c", "status": "COMPLETED", "resultUrl": "/files/a", "format": "PNG"}
+                """);
+
+        DownloadSummary summary = client.bulk().downloadAll("bulk-1", directory, DownloadOptions.builder()
+                .fileNamer(job -> ("c".equals(job.getId()) ? "a" : job.getId()) + ".png")
+                .build());
+
+        assertEquals(1, summary.getFilesDownloaded());
+        assertEquals(Set.of("../escape", "c"), summary.getFailures().keySet());
+        assertTrue(Files.exists(directory.resolve("a.png")));
+        assertFalse(Files.exists(directory.resolveSibling("escape.png")));
+    }
+
+    @Test
+    void stopsRunningDownloadsWhenTheBulkStatusFails() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        try (ServerSocket files = new ServerSocket(0)) {
+            // Sends part of the body, then reports when the client closes the connection
+            Thread server = new Thread(() -> {
+                try (Socket socket = files.accept()) {
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    while (!in.readLine().isEmpty()) {
+                        // Skip the request headers
+                    }
+                    requested.countDown();
+                    OutputStream out = socket.getOutputStream();
+                    out.write("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\naa".getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    while (in.read() != -1) {
+                        // Wait for the client to give up
+                    }
+                } catch (IOException e) {
+                    // A reset connection is a closed one too
+                }
+                closed.countDown();
+            });
+            server.setDaemon(true);
+            server.start();
+
+            AtomicInteger statusCalls = new AtomicInteger();
+            mockServer.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    if (statusCalls.incrementAndGet() > 1) {
+                        requested.await(5, TimeUnit.SECONDS);
+                        return new MockResponse().setResponseCode(500).setBody("{\"message\": \"Unavailable\"}");
+                    }
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json")
+                            .setBody("""
+                                    {"id": "bulk-1", "status": "PROCESSING", "totalJobs": 2, "completedJobs": 1,
+                                     "jobs": [{"id": "a", "status": "COMPLETED", "format": "PNG",
+                                               "storageUrl": "http://127.0.0.1:%d/files/a"}]}
+                                    """.formatted(files.getLocalPort()));
+                }
+            });
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(AllscreenshotsException.class,
+                    () -> client.bulk().downloadAll("bulk-1", directory)));
+
+            // The download in flight was aborted rather than left to finish in the background
+            assertEquals(0, closed.getCount());
+            assertFalse(Files.exists(directory.resolve("a.png")));
+        }
+    }
+
+    private void serve(String jobs) {
+        String status = """
+                {
+                    "id": "bulk-1",
+                    "status": "COMPLETED",
+                    "totalJobs": 1,
+                    "completedJobs": 1,
+                    "failedJobs": 0,
+                    "progress": 100,
+                    "jobs": [%s]
+                }
+                """.formatted(jobs);
+
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.startsWith("/v1/screenshots/bulk/")) {
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(status);
+                }
+                downloads.put(path, request);
+                String content = path.equals("/files/a") ? "aaaaa" : "ccc";
+                String range = request.getHeader("Range");
+                if (range != null) {
+                    int from = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                    return new MockResponse()
+                            .setResponseCode(206)
+                            .setHeader("Content-Range", "bytes " + from + "-" + (content.length() - 1) + "/" + content.length())
+                            .setBody(content.substring(from));
+                }
+                return new MockResponse().setResponseCode(200).setBody(content);
+            }
+        });
+    }
+}
@@ -75,6 +75,24 @@ class BulkRequestTest {
         assertThrows(IllegalArgumentException.class, builder::build);
     }
 
+    @Test
+    void splitsIntoChunksWithSharedSettings() {
+        BulkRequest.Builder builder = BulkRequest.builder()
+                .defaults(BulkDefaults.builder().device("Desktop HD").build())
+                .webhookUrl("https://hooks.example.com/bulk");
+        for (int i = 0; i < 250; i++) {
+            builder.addUrl("https://example.com/" + i);
+        }
+
+        List<BulkRequest> chunks = builder.buildForChunking().split(100);
+
+        assertEquals(3, chunks.size());
+        assertEquals(50, chunks.get(2).getUrls().size());
+        assertEquals("https://example.com/200", chunks.get(2).getUrls().get(0).getUrl());
+        assertEquals("Desktop HD", chunks.get(2).getDefaults().getDevice());
+        assertEquals("https://hooks.example.com/bulk", chunks.get(2).getWebhookUrl());
+    }
+
     @Test
     void serializesToJson() throws Exception {
         BulkRequest request = BulkRequest.builder()
@@ -0,0 +1,108 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.BulkJobDetailInfo;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkStreamTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void emitsEachJobOnceAsItFinishes() {
+        mockServer.enqueue(json("""
+                {
+                    "id": "bulk-1",
+                    "status": "PROCESSING",
+                    "totalJobs": 3,
+                    "completedJobs": 1,
+                    "failedJobs": 0,
+                    "progress": 33,
+                    "jobs": [
+                        {"id": "a", "status": "COMPLETED", "resultUrl": "https://cdn.example.com/a.png"},
+                        {"id": "b", "status": "PROCESSING"},
+                        {"id": "c", "status": "QUEUED"}
+                    ]
+                }
+                """));
+        mockServer.enqueue(json("""
+                {
+                    "id": "bulk-1",
+                    "status": "COMPLETED",
+                    "totalJobs": 3,
+                    "completedJobs": 2,
+                    "failedJobs": 1,
+                    "progress": 100,
+                    "jobs": [
+                        {"id": "a", "status": "COMPLETED", "resultUrl": "https://cdn.example.com/a.png"},
+                        {"id": "b", "status": "FAILED", "errorCode": "TIMEOUT"},
+                        {"id": "c", "status": "COMPLETED", "resultUrl": "https://cdn.example.com/c.png"}
+                    ]
+                }
+                """));
+
+        List<BulkJobDetailInfo> jobs = client.bulk().stream("bulk-1").collect(Collectors.toList());
+
+        assertEquals(List.of("a", "b", "c"), jobs.stream().map(BulkJobDetailInfo::getId).collect(Collectors.toList()));
+        assertEquals("TIMEOUT", jobs.get(1).getErrorCode());
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void firstFinishedJobIsAvailableBeforeBulkCompletes() {
+        mockServer.enqueue(json("""
+                {
+                    "id": "bulk-1",
+                    "status": "PROCESSING",
+                    "totalJobs": 2,
+                    "completedJobs": 1,
+                    "failedJobs": 0,
+                    "progress": 50,
+                    "jobs": [
+                        {"id": "a", "status": "COMPLETED"},
+                        {"id": "b", "status": "PROCESSING"}
+                    ]
+                }
+                """));
+
+        BulkJobDetailInfo first = client.bulk().stream("bulk-1").findFirst().orElseThrow();
+
+        assertEquals("a", first.getId());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setBody(body)
+                .setHeader("Content-Type", "application/json");
+    }
+}
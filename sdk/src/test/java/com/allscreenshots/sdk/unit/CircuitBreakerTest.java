@@ -0,0 +1,143 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.ApiException;
+import com.allscreenshots.sdk.exception.CircuitBreakerOpenException;
+import com.allscreenshots.sdk.metrics.micrometer.MicrometerSdkMetrics;
+import com.allscreenshots.sdk.util.CircuitBreakerConfig;
+import com.allscreenshots.sdk.util.EndpointFamily;
+import com.allscreenshots.sdk.util.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final String JOB = "{\"id\": \"job-123\", \"status\": \"COMPLETED\"}";
+
+    private MockWebServer mockServer;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(RetryConfig retryConfig, Duration openDuration) {
+        return newClient("/", retryConfig, openDuration);
+    }
+
+    private AllscreenshotsClient newClient(String basePath, RetryConfig retryConfig, Duration openDuration) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url(basePath).toString().replaceAll("/$", ""))
+                .retryConfig(retryConfig)
+                .circuitBreaker(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumCalls(2)
+                        .openDuration(openDuration)
+                        .halfOpenCalls(1)
+                        .build())
+                .metrics(new MicrometerSdkMetrics(registry))
+                .build();
+    }
+
+    private void enqueueUnavailable(int count) {
+        for (int i = 0; i < count; i++) {
+            mockServer.enqueue(new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}"));
+        }
+    }
+
+    private void enqueueJob() {
+        mockServer.enqueue(new MockResponse().setBody(JOB).setHeader("Content-Type", "application/json"));
+    }
+
+    private double circuitState(EndpointFamily family, String state) {
+        return registry.get("allscreenshots.client.circuit.state")
+                .tags("family", family.name(), "state", state)
+                .gauge().value();
+    }
+
+    @Test
+    void opensOnFailuresAndFailsFast() {
+        AllscreenshotsClient client = newClient(RetryConfig.noRetries(), Duration.ofMinutes(1));
+        enqueueUnavailable(2);
+
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+        assertEquals(1.0, circuitState(EndpointFamily.JOBS, "CLOSED"));
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+
+        CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+                () -> client.screenshots().getJob("job-123"));
+        assertEquals(EndpointFamily.JOBS, exception.getFamily());
+        assertTrue(exception.getRemainingOpenTime().compareTo(Duration.ZERO) > 0);
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals(1.0, circuitState(EndpointFamily.JOBS, "OPEN"));
+
+        // Other endpoint families have circuits of their own
+        mockServer.enqueue(new MockResponse().setBody("{}").setHeader("Content-Type", "application/json"));
+        assertNotNull(client.usage().getUsage());
+    }
+
+    @Test
+    void opensBehindABaseUrlWithAPath() throws Exception {
+        AllscreenshotsClient client = newClient("/gateway/", RetryConfig.noRetries(), Duration.ofMinutes(1));
+        enqueueUnavailable(2);
+
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+
+        assertThrows(CircuitBreakerOpenException.class, () -> client.screenshots().getJob("job-123"));
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals("/gateway/v1/screenshots/jobs/job-123", mockServer.takeRequest().getPath());
+        assertEquals(1.0, circuitState(EndpointFamily.JOBS, "OPEN"));
+    }
+
+    @Test
+    void openCircuitStopsRetries() {
+        AllscreenshotsClient client = newClient(RetryConfig.builder()
+                .maxRetries(3)
+                .initialDelayMs(1)
+                .jitter(RetryConfig.Jitter.NONE)
+                .build(), Duration.ofMinutes(1));
+        enqueueUnavailable(4);
+
+        assertThrows(CircuitBreakerOpenException.class, () -> client.screenshots().getJob("job-123"));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() throws Exception {
+        AllscreenshotsClient client = newClient(RetryConfig.noRetries(), Duration.ofMillis(200));
+        enqueueUnavailable(2);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+        }
+        assertThrows(CircuitBreakerOpenException.class, () -> client.screenshots().getJob("job-123"));
+
+        Thread.sleep(300);
+        enqueueJob();
+        enqueueJob();
+        assertNotNull(client.screenshots().getJob("job-123"));
+        assertEquals(1.0, circuitState(EndpointFamily.JOBS, "CLOSED"));
+        assertNotNull(client.async().screenshots().getJob("job-123").get());
+        assertEquals(1.0, registry.get("allscreenshots.client.circuit.transitions")
+                .tags("family", "JOBS", "state", "HALF_OPEN")
+                .counter().count());
+    }
+}
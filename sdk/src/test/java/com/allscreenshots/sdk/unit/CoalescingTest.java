@@ -0,0 +1,87 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingTest {
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(boolean coalesceCaptures) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .coalesceCaptures(coalesceCaptures)
+                .build();
+    }
+
+    private static MockResponse slowImage(String body) {
+        return new MockResponse().setBody(body).setHeadersDelay(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void identicalCapturesShareOneCall() throws Exception {
+        AllscreenshotsClient client = newClient(true);
+        mockServer.enqueue(slowImage("image"));
+        mockServer.enqueue(slowImage("other"));
+
+        CompletableFuture<byte[]> leader = client.async().screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .webhookUrl("https://hooks.example.com/a")
+                .build());
+        mockServer.takeRequest(5, TimeUnit.SECONDS);
+        CompletableFuture<byte[]> follower = CompletableFuture.supplyAsync(() ->
+                client.screenshots().capture(ScreenshotRequest.builder()
+                        .url("https://example.com")
+                        .webhookUrl("https://hooks.example.com/b")
+                        .webhookSecret("secret")
+                        .build()));
+        byte[] different = client.screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .fullPage(true)
+                .build());
+
+        assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        assertArrayEquals("image".getBytes(), leader.get());
+        assertArrayEquals("other".getBytes(), different);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void capturesAreNotCoalescedByDefault() throws Exception {
+        AllscreenshotsClient client = newClient(false);
+        mockServer.enqueue(slowImage("first"));
+        mockServer.enqueue(slowImage("second"));
+        ScreenshotRequest request = ScreenshotRequest.builder().url("https://example.com").build();
+
+        CompletableFuture<byte[]> first = client.async().screenshots().capture(request);
+        CompletableFuture<byte[]> second = client.async().screenshots().capture(request);
+
+        assertNotSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+}
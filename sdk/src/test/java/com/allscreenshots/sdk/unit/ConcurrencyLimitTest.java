@@ -0,0 +1,112 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.ConcurrencyLimitException;
+import com.allscreenshots.sdk.exception.RateLimitException;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.ConcurrencyLimitConfig;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitTest {
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(ConcurrencyLimitConfig config) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .concurrencyLimit(config)
+                .build();
+    }
+
+    private static ScreenshotRequest request() {
+        return ScreenshotRequest.builder().url("https://example.com").build();
+    }
+
+    private static MockResponse slowImage() {
+        return new MockResponse().setBody("image").setHeadersDelay(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void failsFastWhenLimitIsReached() throws Exception {
+        AllscreenshotsClient client = newClient(ConcurrencyLimitConfig.builder()
+                .initialLimit(1)
+                .failFast()
+                .build());
+        mockServer.enqueue(slowImage());
+        mockServer.enqueue(new MockResponse().setBody("{\"id\": \"job-123\", \"status\": \"COMPLETED\"}"));
+
+        CompletableFuture<byte[]> first = client.async().screenshots().capture(request());
+        mockServer.takeRequest(5, TimeUnit.SECONDS);
+
+        ConcurrencyLimitException exception = assertThrows(ConcurrencyLimitException.class,
+                () -> client.screenshots().capture(request()));
+        assertEquals(1, exception.getLimit());
+
+        // Only captures are limited by default
+        assertNotNull(client.screenshots().getJob("job-123"));
+        assertArrayEquals("image".getBytes(), first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queuedCallersRunWhenASlotFrees() throws Exception {
+        AllscreenshotsClient client = newClient(ConcurrencyLimitConfig.builder()
+                .initialLimit(1)
+                .maxWait(Duration.ofSeconds(5))
+                .build());
+        mockServer.enqueue(slowImage());
+        mockServer.enqueue(new MockResponse().setBody("second"));
+
+        CompletableFuture<byte[]> first = client.async().screenshots().capture(request());
+        CompletableFuture<byte[]> second = client.async().screenshots().capture(request());
+
+        assertArrayEquals("image".getBytes(), first.get(5, TimeUnit.SECONDS));
+        assertArrayEquals("second".getBytes(), second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rateLimitResponsesShrinkTheLimit() throws Exception {
+        AllscreenshotsClient client = newClient(ConcurrencyLimitConfig.builder()
+                .initialLimit(3)
+                .backoffRatio(0.5)
+                .failFast()
+                .build());
+        for (int i = 0; i < 2; i++) {
+            mockServer.enqueue(new MockResponse().setResponseCode(429).setBody("{\"message\": \"Slow down\"}"));
+            assertThrows(RateLimitException.class, () -> client.screenshots().capture(request()));
+        }
+        mockServer.enqueue(slowImage());
+
+        // 3 -> 1.5 -> 1, so a single capture in flight now fills the limit
+        CompletableFuture<byte[]> inFlight = client.async().screenshots().capture(request());
+        for (int i = 0; i < 3; i++) {
+            mockServer.takeRequest(5, TimeUnit.SECONDS);
+        }
+        assertThrows(ConcurrencyLimitException.class, () -> client.screenshots().capture(request()));
+        inFlight.get(5, TimeUnit.SECONDS);
+    }
+}
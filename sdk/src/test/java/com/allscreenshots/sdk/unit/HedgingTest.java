@@ -0,0 +1,90 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.HedgingConfig;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingTest {
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(HedgingConfig config) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .hedging(config)
+                .build();
+    }
+
+    private static MockResponse slow(String body, long delayMs) {
+        return new MockResponse().setBody(body).setHeadersDelay(delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void firstResponseWinsWhenPrimaryIsSlow() {
+        AllscreenshotsClient client = newClient(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(100))
+                .budgetRatio(1.0)
+                .build());
+        mockServer.enqueue(slow("slow", 3000));
+        mockServer.enqueue(new MockResponse().setBody("fast"));
+
+        long start = System.nanoTime();
+        byte[] result = client.screenshots().getJobResult("job-123");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertArrayEquals("fast".getBytes(), result);
+        assertTrue(elapsedMs < 2000, "elapsed " + elapsedMs + " ms");
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void capturesAreNotHedgedUnlessEnabled() {
+        AllscreenshotsClient client = newClient(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(50))
+                .budgetRatio(1.0)
+                .build());
+        mockServer.enqueue(slow("image", 300));
+
+        client.screenshots().capture(ScreenshotRequest.builder().url("https://example.com").build());
+
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void hedgesStayWithinBudget() {
+        AllscreenshotsClient client = newClient(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(50))
+                .budgetRatio(0.5)
+                .build());
+        mockServer.enqueue(slow("first", 300));
+
+        // Half a hedge earned so far, which is not enough to send one
+        assertArrayEquals("first".getBytes(), client.screenshots().getJobResult("job-123"));
+        assertEquals(1, mockServer.getRequestCount());
+    }
+}
@@ -0,0 +1,175 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.JobFailedException;
+import com.allscreenshots.sdk.exception.JobTimeoutException;
+import com.allscreenshots.sdk.model.ComposeJobStatusResponse;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobAwaitTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void captureAsyncAndAwaitFetchesResultWhenCompleted() throws Exception {
+        mockServer.enqueue(json("""
+                {"id": "job-123", "status": "QUEUED"}
+                """));
+        mockServer.enqueue(json("""
+                {"id": "job-123", "status": "COMPLETED"}
+                """));
+        okio.Buffer image = new okio.Buffer();
+        image.write(new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47});
+        mockServer.enqueue(new MockResponse().setBody(image).setHeader("Content-Type", "image/png"));
+
+        byte[] result = client.screenshots().captureAsyncAndAwait(
+                ScreenshotRequest.builder()
+                        .url("https://example.com")
+                        .build(),
+                Duration.ofSeconds(30)
+        );
+
+        assertEquals(4, result.length);
+        assertEquals("/v1/screenshots/async", mockServer.takeRequest().getPath());
+        assertEquals("/v1/screenshots/jobs/job-123", mockServer.takeRequest().getPath());
+        RecordedRequest resultRequest = mockServer.takeRequest();
+        assertEquals("/v1/screenshots/jobs/job-123/result", resultRequest.getPath());
+    }
+
+    @Test
+    void awaitResultFailsFastOnFailedJob() {
+        mockServer.enqueue(json("""
+                {
+                    "id": "job-123",
+                    "status": "FAILED",
+                    "errorCode": "NAVIGATION_TIMEOUT",
+                    "errorMessage": "Page did not load"
+                }
+                """));
+
+        JobFailedException exception = assertThrows(JobFailedException.class,
+                () -> client.screenshots().awaitResult("job-123", Duration.ofSeconds(30)));
+
+        assertEquals("job-123", exception.getJobId());
+        assertEquals("FAILED", exception.getJobStatus());
+        assertEquals("NAVIGATION_TIMEOUT", exception.getErrorCode());
+        assertEquals("Page did not load", exception.getMessage());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void awaitResultTimesOut() {
+        for (int i = 0; i < 5; i++) {
+            mockServer.enqueue(json("""
+                    {"id": "job-123", "status": "PROCESSING"}
+                    """));
+        }
+
+        JobTimeoutException exception = assertThrows(JobTimeoutException.class,
+                () -> client.screenshots().awaitResult("job-123", Duration.ofMillis(300)));
+
+        assertEquals("job-123", exception.getJobId());
+    }
+
+    @Test
+    void awaitFailsInsteadOfHangingOnAnEmptyStatus() {
+        mockServer.enqueue(json("null"));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(RuntimeException.class,
+                () -> client.screenshots().awaitResult("job-123", Duration.ofSeconds(1))));
+    }
+
+    @Test
+    void cancellingTheResultStopsPolling() throws Exception {
+        // A 300 ms job brings the first poll of the next wait forward from the 3 s initial estimate
+        mockServer.enqueue(json("""
+                {"id": "job-1", "status": "COMPLETED",
+                 "createdAt": "2025-01-01T00:00:00Z", "completedAt": "2025-01-01T00:00:00.300Z"}
+                """));
+        client.async().screenshots().awaitJob("job-1", Duration.ofSeconds(30)).get();
+        mockServer.enqueue(json("""
+                {"id": "job-2", "status": "QUEUED"}
+                """));
+
+        CompletableFuture<byte[]> result = client.async().screenshots().awaitResult("job-2", Duration.ofSeconds(30));
+        result.cancel(true);
+        Thread.sleep(1000);
+
+        // Well past the scheduled first poll, which would have fetched the queued response
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void composeAwaitJobReturnsFailedJobsWhileAwaitResultThrows() {
+        for (int i = 0; i < 2; i++) {
+            mockServer.enqueue(json("""
+                    {"jobId": "compose-1", "status": "FAILED", "errorCode": "RENDER_FAILED",
+                     "createdAt": "2025-01-01T00:00:00Z", "completedAt": "2025-01-01T00:00:00.100Z"}
+                    """));
+        }
+
+        ComposeJobStatusResponse job = client.compose().awaitJob("compose-1", Duration.ofSeconds(30));
+        JobFailedException exception = assertThrows(JobFailedException.class,
+                () -> client.compose().awaitResult("compose-1", Duration.ofSeconds(30)));
+
+        assertEquals("FAILED", job.getStatus());
+        assertEquals("RENDER_FAILED", exception.getErrorCode());
+        assertEquals("compose-1", exception.getJobId());
+    }
+
+    @Test
+    void firstPollComesSoonerAfterFastJobs() throws Exception {
+        // Renders take 300 ms by the server's clock, well below the 3 s initial estimate
+        for (String id : new String[]{"job-1", "job-2"}) {
+            mockServer.enqueue(json("""
+                    {"id": "%s", "status": "COMPLETED",
+                     "createdAt": "2025-01-01T00:00:00Z", "completedAt": "2025-01-01T00:00:00.300Z"}
+                    """.formatted(id)));
+        }
+
+        client.async().screenshots().awaitJob("job-1", Duration.ofSeconds(30)).get();
+        long start = System.nanoTime();
+        client.async().screenshots().awaitJob("job-2", Duration.ofSeconds(30)).get();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 1500, "elapsed " + elapsedMs + " ms");
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setBody(body)
+                .setHeader("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,135 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.client.JobTracker;
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.JobTimeoutException;
+import com.allscreenshots.sdk.model.JobResponse;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTrackerTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void refreshesAllTrackedJobsWithOneListCallPerTick() throws Exception {
+        mockServer.enqueue(json("""
+                [
+                    {"id": "job-1", "status": "COMPLETED"},
+                    {"id": "job-2", "status": "FAILED", "errorCode": "TIMEOUT"},
+                    {"id": "job-3", "status": "PROCESSING"},
+                    {"id": "other", "status": "QUEUED"}
+                ]
+                """));
+        mockServer.enqueue(json("""
+                [
+                    {"id": "job-1", "status": "COMPLETED"},
+                    {"id": "job-2", "status": "FAILED"},
+                    {"id": "job-3", "status": "COMPLETED"}
+                ]
+                """));
+
+        JobTracker<JobResponse> tracker = client.screenshots().jobTracker();
+        List<String> job3Statuses = new CopyOnWriteArrayList<>();
+        CompletableFuture<JobResponse> job1 = tracker.track("job-1");
+        CompletableFuture<JobResponse> job2 = tracker.track("job-2");
+        CompletableFuture<JobResponse> job3 = tracker.track("job-3", job3Statuses::add);
+
+        assertTrue(job1.get(10, TimeUnit.SECONDS).isCompleted());
+        JobResponse failed = job2.get(10, TimeUnit.SECONDS);
+        assertTrue(failed.isFailed());
+        assertEquals("TIMEOUT", failed.getErrorCode());
+        assertTrue(job3.get(10, TimeUnit.SECONDS).isCompleted());
+
+        assertEquals(List.of("PROCESSING", "COMPLETED"), job3Statuses);
+        assertEquals(0, tracker.getPendingCount());
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals("/v1/screenshots/jobs", mockServer.takeRequest().getPath());
+        assertEquals("/v1/screenshots/jobs", mockServer.takeRequest().getPath());
+    }
+
+    @Test
+    void trackingTheSameJobTwiceNotifiesBothCallbacks() throws Exception {
+        mockServer.enqueue(json("""
+                [{"id": "job-1", "status": "COMPLETED"}]
+                """));
+
+        JobTracker<JobResponse> tracker = client.screenshots().jobTracker();
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        CompletableFuture<JobResponse> firstFuture = tracker.track("job-1", first::add);
+        CompletableFuture<JobResponse> secondFuture = tracker.track("job-1", second::add);
+
+        assertSame(firstFuture, secondFuture);
+        assertTrue(firstFuture.get(10, TimeUnit.SECONDS).isCompleted());
+        assertEquals(List.of("COMPLETED"), first);
+        assertEquals(List.of("COMPLETED"), second);
+    }
+
+    @Test
+    void trackedJobTimesOut() {
+        mockServer.enqueue(json("""
+                [{"id": "job-1", "status": "PROCESSING"}]
+                """));
+
+        CompletableFuture<JobResponse> job = client.screenshots().jobTracker()
+                .track("job-1", status -> { }, Duration.ofMillis(300));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> job.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(JobTimeoutException.class, exception.getCause());
+        assertEquals(0, client.screenshots().jobTracker().getPendingCount());
+    }
+
+    @Test
+    void jobUnknownToTheApiFails() {
+        mockServer.enqueue(json("[]"));
+        mockServer.enqueue(json("[]"));
+        mockServer.enqueue(new MockResponse().setResponseCode(404).setBody("""
+                {"error": "Not found", "message": "Job not found"}
+                """));
+
+        CompletableFuture<JobResponse> job = client.screenshots().jobTracker().track("missing");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> job.get(10, TimeUnit.SECONDS));
+        assertEquals(404, ((AllscreenshotsException) exception.getCause()).getStatusCode());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setBody(body)
+                .setHeader("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,91 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.metrics.micrometer.MicrometerSdkMetrics;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.RetryConfig;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    private MockWebServer mockServer;
+    private SimpleMeterRegistry registry;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        registry = new SimpleMeterRegistry();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.builder().maxRetries(1).initialDelayMs(10).build())
+                .metrics(new MicrometerSdkMetrics(registry, Tags.of("client", "test")))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void recordsAttemptsAndRetriesPerEndpointTemplate() {
+        mockServer.enqueue(new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}"));
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"id\": \"job-123\", \"status\": \"COMPLETED\"}")
+                .setHeader("Content-Type", "application/json"));
+
+        client.screenshots().getJob("job-123");
+
+        assertEquals(1, registry.get("allscreenshots.client.requests")
+                .tags("endpoint", "/v1/screenshots/jobs/{id}", "status", "503", "outcome", "SERVER_ERROR", "client", "test")
+                .timer().count());
+        assertEquals(1, registry.get("allscreenshots.client.requests")
+                .tags("endpoint", "/v1/screenshots/jobs/{id}", "status", "200", "method", "GET")
+                .timer().count());
+        assertEquals(1.0, registry.get("allscreenshots.client.retries")
+                .tags("endpoint", "/v1/screenshots/jobs/{id}", "cause", "SERVER_ERROR")
+                .counter().count());
+        assertEquals(0, registry.get("allscreenshots.client.requests.active").gauge().value());
+    }
+
+    @Test
+    void clientsSharingMetricsReportSeparateGauges() {
+        AllscreenshotsClient other = client.newBuilder().build();
+
+        assertEquals(2, registry.find("allscreenshots.client.requests.active").gauges().size());
+        assertEquals(0, registry.get("allscreenshots.client.requests.active")
+                .tags("client.instance", "2", "client", "test").gauge().value());
+        // Keeps the second client reachable, since its gauges only hold it weakly
+        assertNotNull(other);
+    }
+
+    @Test
+    void recordsBodySizes() {
+        mockServer.enqueue(new MockResponse().setBody(new okio.Buffer().write(new byte[2048])));
+
+        client.screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .build());
+
+        assertEquals(2048.0, registry.get("allscreenshots.client.response.size")
+                .tags("endpoint", "/v1/screenshots")
+                .summary().totalAmount());
+        assertTrue(registry.get("allscreenshots.client.request.size")
+                .tags("endpoint", "/v1/screenshots")
+                .summary().totalAmount() > 0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.RateLimitException;
+import com.allscreenshots.sdk.util.EndpointFamily;
+import com.allscreenshots.sdk.util.RateLimitConfig;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitTest {
+
+    private static final String JOB = "{\"id\": \"job-123\", \"status\": \"COMPLETED\"}";
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(RetryConfig retryConfig, RateLimitConfig rateLimitConfig) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(retryConfig)
+                .rateLimit(rateLimitConfig)
+                .build();
+    }
+
+    private void enqueueJobs(int count) {
+        for (int i = 0; i < count; i++) {
+            mockServer.enqueue(new MockResponse().setBody(JOB).setHeader("Content-Type", "application/json"));
+        }
+    }
+
+    @Test
+    void spacesRequestsOnceBurstIsUsed() {
+        AllscreenshotsClient client = newClient(RetryConfig.noRetries(),
+                RateLimitConfig.builder().limit(EndpointFamily.JOBS, 5, 1).build());
+        enqueueJobs(3);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            client.screenshots().getJob("job-123");
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // One permit at once, then one every 200 ms
+        assertTrue(elapsedMs >= 380, "elapsed " + elapsedMs + " ms");
+
+        // Other families are not limited by the JOBS bucket
+        mockServer.enqueue(new MockResponse().setBody("{}").setHeader("Content-Type", "application/json"));
+        long usageStart = System.nanoTime();
+        client.usage().getUsage();
+        assertTrue((System.nanoTime() - usageStart) / 1_000_000 < 180);
+    }
+
+    @Test
+    void rateLimitResponsePausesUntilRetryAfter() {
+        AllscreenshotsClient client = newClient(RetryConfig.builder().maxRetries(1).initialDelayMs(10).build(),
+                RateLimitConfig.pauseOnRateLimit());
+        mockServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1")
+                .setBody("{\"message\": \"Rate limit exceeded\"}"));
+        enqueueJobs(1);
+
+        long start = System.nanoTime();
+        client.screenshots().getJob("job-123");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs >= 950, "elapsed " + elapsedMs + " ms");
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void parsesHttpDateRetryAfter() {
+        AllscreenshotsClient client = newClient(RetryConfig.noRetries(), RateLimitConfig.pauseOnRateLimit());
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        mockServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", date)
+                .setBody("{\"message\": \"Rate limit exceeded\"}"));
+
+        RateLimitException exception = assertThrows(RateLimitException.class,
+                () -> client.screenshots().getJob("job-123"));
+
+        assertTrue(exception.getRetryAfter() >= 28 && exception.getRetryAfter() <= 31,
+                "retryAfter " + exception.getRetryAfter());
+    }
+}
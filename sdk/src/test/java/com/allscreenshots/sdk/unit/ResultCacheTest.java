@@ -0,0 +1,166 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.cache.CacheMode;
+import com.allscreenshots.sdk.cache.CacheStats;
+import com.allscreenshots.sdk.cache.DiskCacheStorage;
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.ResultCacheConfig;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(ResultCacheConfig config) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.noRetries())
+                .resultCache(config)
+                .build();
+    }
+
+    @Test
+    void repeatedCapturesAreServedFromCache() {
+        AllscreenshotsClient client = newClient(ResultCacheConfig.defaultConfig());
+        mockServer.enqueue(new MockResponse().setBody("first"));
+        mockServer.enqueue(new MockResponse().setBody("bypassed"));
+        mockServer.enqueue(new MockResponse().setBody("refreshed"));
+
+        byte[] first = client.screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .webhookUrl("https://hooks.example.com/a")
+                .build());
+        byte[] cached = client.async().screenshots().capture(ScreenshotRequest.builder()
+                .url("https://example.com")
+                .build()).join();
+        ScreenshotRequest request = ScreenshotRequest.builder().url("https://example.com").build();
+        byte[] bypassed = client.screenshots().capture(request, CacheMode.BYPASS);
+        byte[] refreshed = client.screenshots().capture(request, CacheMode.REFRESH);
+
+        assertArrayEquals("first".getBytes(), first);
+        assertArrayEquals("first".getBytes(), cached);
+        assertNotSame(first, cached);
+        assertArrayEquals("bypassed".getBytes(), bypassed);
+        assertArrayEquals("refreshed".getBytes(), refreshed);
+        assertArrayEquals("refreshed".getBytes(), client.screenshots().capture(request));
+        assertEquals(3, mockServer.getRequestCount());
+
+        CacheStats stats = client.resultCacheStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEntryCount());
+    }
+
+    @Test
+    void entriesExpireAfterTtl(@TempDir Path directory) throws Exception {
+        AllscreenshotsClient client = newClient(ResultCacheConfig.builder()
+                .ttl(Duration.ofMillis(100))
+                .storage(new DiskCacheStorage(directory))
+                .build());
+        mockServer.enqueue(new MockResponse().setBody("old"));
+        mockServer.enqueue(new MockResponse().setBody("new"));
+
+        assertArrayEquals("old".getBytes(), client.screenshots().getJobResult("job-123"));
+        assertArrayEquals("old".getBytes(), client.screenshots().getJobResult("job-123"));
+        Thread.sleep(200);
+        assertArrayEquals("new".getBytes(), client.screenshots().getJobResult("job-123"));
+
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals(1, client.resultCacheStats().getEvictionCount());
+    }
+
+    @Test
+    void expiredFrequentResultsDoNotBlockNewOnes() throws Exception {
+        AllscreenshotsClient client = newClient(ResultCacheConfig.builder()
+                .maximumSize(100)
+                .ttl(Duration.ofMillis(100))
+                .build());
+        String image = "x".repeat(40);
+        for (int i = 0; i < 3; i++) {
+            mockServer.enqueue(new MockResponse().setBody(image));
+        }
+
+        for (String jobId : List.of("hot-a", "hot-b")) {
+            for (int i = 0; i < 3; i++) {
+                client.screenshots().getJobResult(jobId);
+            }
+        }
+        Thread.sleep(200);
+        ScreenshotRequest request = ScreenshotRequest.builder().url("https://example.com").build();
+        client.screenshots().capture(request);
+        client.screenshots().capture(request);
+
+        assertEquals(3, mockServer.getRequestCount());
+        CacheStats stats = client.resultCacheStats();
+        assertEquals(0, stats.getRejectionCount());
+        assertEquals(2, stats.getEvictionCount());
+        assertEquals(1, stats.getEntryCount());
+    }
+
+    @Test
+    void diskStorageOnlyDeletesItsOwnFiles(@TempDir Path directory) throws Exception {
+        new DiskCacheStorage(directory).put("job-123", "image".getBytes());
+        Path unrelated = Files.writeString(directory.resolve("notes.cache"), "keep me");
+
+        new DiskCacheStorage(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(unrelated), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void oneOffResultsDoNotDisplaceFrequentOnes() {
+        AllscreenshotsClient client = newClient(ResultCacheConfig.builder().maximumSize(100).build());
+        String image = "x".repeat(40);
+        for (int i = 0; i < 4; i++) {
+            mockServer.enqueue(new MockResponse().setBody(image));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            client.screenshots().getJobResult("hot");
+        }
+        client.screenshots().getJobResult("once-a");
+        client.screenshots().getJobResult("once-b");
+        client.screenshots().getJobResult("hot");
+
+        assertEquals(3, mockServer.getRequestCount());
+        assertEquals(1, client.resultCacheStats().getRejectionCount());
+
+        // Asked for again, the rejected result is now more popular than the other one-off
+        client.screenshots().getJobResult("once-b");
+        client.screenshots().getJobResult("once-b");
+
+        assertEquals(4, mockServer.getRequestCount());
+        assertEquals(1, client.resultCacheStats().getEvictionCount());
+    }
+}
@@ -1,8 +1,13 @@
 package com.allscreenshots.sdk.unit;
 
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.NetworkException;
+import com.allscreenshots.sdk.exception.RateLimitException;
 import com.allscreenshots.sdk.util.RetryConfig;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RetryConfigTest {
@@ -66,4 +71,50 @@ class RetryConfigTest {
         assertEquals(5000, config.getDelayForAttempt(1)); // Would be 10000 but capped
         assertEquals(5000, config.getDelayForAttempt(2)); // Would be 100000 but capped
     }
+
+    @Test
+    void jitterStaysWithinBounds() {
+        RetryConfig.Builder builder = RetryConfig.builder()
+                .initialDelayMs(1000)
+                .multiplier(2.0)
+                .maxDelayMs(30000);
+        RetryConfig full = builder.jitter(RetryConfig.Jitter.FULL).build();
+        RetryConfig equal = builder.jitter(RetryConfig.Jitter.EQUAL).build();
+        RetryConfig decorrelated = builder.jitter(RetryConfig.Jitter.DECORRELATED).build();
+        RetryConfig none = builder.jitter(RetryConfig.Jitter.NONE).build();
+
+        for (int i = 0; i < 100; i++) {
+            long fullDelay = full.getDelayForAttempt(2, 0);
+            assertTrue(fullDelay >= 0 && fullDelay <= 4000, "full " + fullDelay);
+            long equalDelay = equal.getDelayForAttempt(2, 0);
+            assertTrue(equalDelay >= 2000 && equalDelay <= 4000, "equal " + equalDelay);
+            long decorrelatedDelay = decorrelated.getDelayForAttempt(2, 5000);
+            assertTrue(decorrelatedDelay >= 1000 && decorrelatedDelay <= 15000, "decorrelated " + decorrelatedDelay);
+        }
+        assertEquals(4000, none.getDelayForAttempt(2, 0));
+    }
+
+    @Test
+    void maxRetriesPerExceptionType() {
+        RetryConfig config = RetryConfig.builder()
+                .maxRetries(2)
+                .maxRetries(RateLimitException.class, 5)
+                .maxRetries(NetworkException.class, 0)
+                .build();
+
+        assertEquals(5, config.getMaxRetries(new RateLimitException("Slow down", 1L)));
+        assertEquals(0, config.getMaxRetries(new NetworkException("Connection reset")));
+        assertEquals(2, config.getMaxRetries(new AllscreenshotsException("Other")));
+        assertTrue(RetryConfig.builder().maxRetries(0).maxRetries(RateLimitException.class, 1).build().isRetryEnabled());
+        assertFalse(RetryConfig.noRetries().isRetryEnabled());
+    }
+
+    @Test
+    void retryBudgetRejectsInvalidWindows() {
+        RetryConfig.Builder builder = RetryConfig.builder();
+
+        assertThrows(NullPointerException.class, () -> builder.retryBudget(0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> builder.retryBudget(0.1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.retryBudget(0.1, Duration.ofSeconds(-1)));
+    }
 }
@@ -0,0 +1,102 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.ApiException;
+import com.allscreenshots.sdk.exception.RateLimitException;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryTest {
+
+    private static final String JOB = "{\"id\": \"job-123\", \"status\": \"COMPLETED\"}";
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private AllscreenshotsClient newClient(RetryConfig retryConfig) {
+        return AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(retryConfig)
+                .build();
+    }
+
+    private static MockResponse rateLimited(String retryAfter) {
+        return new MockResponse().setResponseCode(429).setHeader("Retry-After", retryAfter)
+                .setBody("{\"message\": \"Rate limit exceeded\"}");
+    }
+
+    private static MockResponse unavailable() {
+        return new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}");
+    }
+
+    @Test
+    void waitsOutRetryAfterLongerThanBackoff() {
+        AllscreenshotsClient client = newClient(RetryConfig.builder().maxRetries(1).initialDelayMs(10).build());
+        mockServer.enqueue(rateLimited("1"));
+        mockServer.enqueue(new MockResponse().setBody(JOB).setHeader("Content-Type", "application/json"));
+
+        long start = System.nanoTime();
+        client.screenshots().getJob("job-123");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs >= 950, "elapsed " + elapsedMs + " ms");
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void doesNotRetryWhenRetryAfterExceedsMaximum() {
+        AllscreenshotsClient client = newClient(RetryConfig.builder()
+                .maxRetries(3)
+                .initialDelayMs(10)
+                .maxRetryAfter(Duration.ofSeconds(5))
+                .build());
+        mockServer.enqueue(rateLimited("120"));
+
+        RateLimitException exception = assertThrows(RateLimitException.class,
+                () -> client.screenshots().getJob("job-123"));
+        assertEquals(120L, exception.getRetryAfter());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void stopsRetryingOnceBudgetIsSpent() {
+        AllscreenshotsClient client = newClient(RetryConfig.builder()
+                .maxRetries(3)
+                .initialDelayMs(1)
+                .jitter(RetryConfig.Jitter.NONE)
+                .retryBudget(0.1, Duration.ofMinutes(1))
+                .minRetriesPerWindow(2)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            mockServer.enqueue(unavailable());
+        }
+
+        // Two retries fit the budget; the third failure is returned as is
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+        assertEquals(3, mockServer.getRequestCount());
+
+        mockServer.enqueue(unavailable());
+        assertThrows(ApiException.class, () -> client.screenshots().getJob("job-123"));
+        assertEquals(4, mockServer.getRequestCount());
+    }
+}
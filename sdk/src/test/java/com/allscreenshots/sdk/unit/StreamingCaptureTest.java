@@ -0,0 +1,184 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.exception.AllscreenshotsException;
+import com.allscreenshots.sdk.exception.NetworkException;
+import com.allscreenshots.sdk.model.FileCaptureResult;
+import com.allscreenshots.sdk.model.ScreenshotRequest;
+import com.allscreenshots.sdk.util.RetryConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingCaptureTest {
+
+    private MockWebServer mockServer;
+    private AllscreenshotsClient client;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.builder()
+                        .maxRetries(2)
+                        .initialDelayMs(10)
+                        .build())
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void captureStreamsIntoOutputStream() {
+        byte[] image = image(100_000);
+        mockServer.enqueue(imageResponse(image));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = client.screenshots().capture(request(), out);
+
+        assertEquals(image.length, written);
+        assertArrayEquals(image, out.toByteArray());
+    }
+
+    @Test
+    void captureToWritesFile() throws Exception {
+        byte[] image = image(50_000);
+        mockServer.enqueue(imageResponse(image));
+
+        Path target = tempDir.resolve("screenshot.png");
+        long written = client.screenshots().captureTo(request(), target);
+
+        assertEquals(image.length, written);
+        assertArrayEquals(image, Files.readAllBytes(target));
+    }
+
+    @Test
+    void captureStreamReturnsBody() throws Exception {
+        byte[] image = image(20_000);
+        mockServer.enqueue(imageResponse(image));
+
+        try (InputStream in = client.screenshots().captureStream(request())) {
+            assertArrayEquals(image, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void retriesBeforeFirstByte() {
+        byte[] image = image(1_000);
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(imageResponse(image));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = client.screenshots().getJobResult("job-123", out);
+
+        assertEquals(image.length, written);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void doesNotRetryAfterBytesWereWritten() {
+        mockServer.enqueue(imageResponse(image(200_000))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+        mockServer.enqueue(imageResponse(image(10)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(NetworkException.class, () -> client.screenshots().capture(request(), out));
+
+        assertTrue(out.size() > 0);
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void captureToFileReportsBytesAndTiming() throws Exception {
+        byte[] image = image(300_000);
+        mockServer.enqueue(imageResponse(image));
+
+        Path target = tempDir.resolve("page.png");
+        FileCaptureResult result = client.screenshots().captureToFile(request(), target);
+
+        assertEquals(target, result.getPath());
+        assertEquals(image.length, result.getBytesWritten());
+        assertFalse(result.getTimeToFirstByte().isNegative());
+        assertTrue(result.getTotalTime().compareTo(result.getTimeToFirstByte()) >= 0);
+        assertArrayEquals(image, Files.readAllBytes(target));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void captureToFileRetriesAfterPartialDownload() throws Exception {
+        byte[] image = image(50_000);
+        mockServer.enqueue(imageResponse(image(200_000))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+        mockServer.enqueue(imageResponse(image));
+
+        Path target = tempDir.resolve("page.png");
+        Files.write(target, new byte[]{1, 2, 3});
+        FileCaptureResult result = client.screenshots().getJobResultToFile("job-123", target);
+
+        assertEquals(image.length, result.getBytesWritten());
+        assertArrayEquals(image, Files.readAllBytes(target));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void captureToFileHonoursCreateNew() throws Exception {
+        Path target = tempDir.resolve("existing.png");
+        Files.write(target, new byte[]{1, 2, 3});
+
+        assertThrows(AllscreenshotsException.class, () ->
+                client.screenshots().captureToFile(request(), target, StandardOpenOption.CREATE_NEW));
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(target));
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    private static ScreenshotRequest request() {
+        return ScreenshotRequest.builder()
+                .url("https://example.com")
+                .build();
+    }
+
+    private static byte[] image(int size) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 0x42);
+        return bytes;
+    }
+
+    private static MockResponse imageResponse(byte[] image) {
+        okio.Buffer buffer = new okio.Buffer();
+        buffer.write(image);
+        return new MockResponse()
+                .setBody(buffer)
+                .setHeader("Content-Type", "image/png");
+    }
+}
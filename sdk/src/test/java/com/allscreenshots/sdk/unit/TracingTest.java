@@ -0,0 +1,113 @@
+package com.allscreenshots.sdk.unit;
+
+import com.allscreenshots.sdk.client.AllscreenshotsClient;
+import com.allscreenshots.sdk.model.ComposeRequest;
+import com.allscreenshots.sdk.tracing.opentelemetry.OpenTelemetrySdkTracing;
+import com.allscreenshots.sdk.util.RetryConfig;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingTest {
+
+    private MockWebServer mockServer;
+    private InMemorySpanExporter exporter;
+    private AllscreenshotsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        exporter = InMemorySpanExporter.create();
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+
+        client = AllscreenshotsClient.builder()
+                .apiKey("test-api-key")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryConfig(RetryConfig.builder().maxRetries(1).initialDelayMs(10).jitter(RetryConfig.Jitter.NONE).build())
+                .tracing(new OpenTelemetrySdkTracing(openTelemetry))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void tracesEachAttemptUnderOneCallSpan() throws InterruptedException {
+        mockServer.enqueue(new MockResponse().setResponseCode(503).setBody("{\"message\": \"Unavailable\"}"));
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"id\": \"job-123\", \"status\": \"COMPLETED\"}")
+                .setHeader("Content-Type", "application/json"));
+
+        client.screenshots().getJob("job-123");
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(3, spans.size());
+        SpanData call = spans.stream().filter(s -> s.getKind() == SpanKind.INTERNAL).findFirst().orElseThrow();
+        List<SpanData> attempts = spans.stream().filter(s -> s.getKind() == SpanKind.CLIENT).toList();
+
+        assertEquals("allscreenshots GET /v1/screenshots/jobs/{id}", call.getName());
+        assertEquals(2L, call.getAttributes().get(AttributeKey.longKey("allscreenshots.attempts")));
+        assertEquals(2, attempts.size());
+        for (SpanData attempt : attempts) {
+            assertEquals(call.getSpanId(), attempt.getParentSpanId());
+        }
+
+        SpanData failed = attempts.get(0);
+        assertEquals(503L, failed.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+        assertEquals(StatusCode.ERROR, failed.getStatus().getStatusCode());
+        SpanData retried = attempts.get(1);
+        assertEquals(1L, retried.getAttributes().get(AttributeKey.longKey("http.request.resend_count")));
+        assertEquals(10L, retried.getAttributes().get(AttributeKey.longKey("allscreenshots.backoff_ms")));
+        assertTrue(retried.getAttributes().get(AttributeKey.longKey("http.response.body.size")) > 0);
+
+        assertTrue(mockServer.takeRequest().getHeader("traceparent").contains(failed.getSpanId()));
+        assertTrue(mockServer.takeRequest().getHeader("traceparent").contains(retried.getSpanId()));
+    }
+
+    @Test
+    void asyncCallRecordsRenderTime() throws Exception {
+        mockServer.enqueue(new MockResponse()
+                .setBody("{\"url\": \"https://storage.example.com/composed.png\", \"renderTimeMs\": 1830}")
+                .setHeader("Content-Type", "application/json"));
+
+        client.async().compose().create(ComposeRequest.builder().url("https://example.com").build())
+                .get(5, TimeUnit.SECONDS);
+
+        // The call span ends in a completion callback, which may run just after get() returns
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (exporter.getFinishedSpanItems().size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        SpanData call = exporter.getFinishedSpanItems().stream()
+                .filter(s -> s.getKind() == SpanKind.INTERNAL)
+                .findFirst().orElseThrow();
+        assertEquals("allscreenshots POST /v1/screenshots/compose", call.getName());
+        assertEquals(1830L, call.getAttributes().get(AttributeKey.longKey("allscreenshots.render_time_ms")));
+    }
+}